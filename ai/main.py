@@ -11,7 +11,9 @@ from typing import Dict, List
 
 from fastapi import FastAPI, HTTPException, Request
 import uvicorn
+import json
 from fastapi.middleware.cors import CORSMiddleware
+from fastapi.responses import StreamingResponse
 
 app = FastAPI()
 
@@ -183,22 +185,78 @@ chatbot_prompt = ChatPromptTemplate.from_template("""
 [참고 문서]
 {context}
 
+[이전 대화]
+{history}
+
 [사용자 질문]
 {question}
 """)
 
-chatbot_chain = {"context": retriever, "question": RunnablePassthrough()} | chatbot_prompt | llm | StrOutputParser()
+# 이전 대화(history) 는 백엔드가 토큰 예산에 맞춰 잘라서 보냄 (오래된 순, 없으면 빈 리스트)
+def format_history(history: List[Dict]) -> str:
+    if not history:
+        return "(없음)"
+    return "\n".join(f"사용자: {t.get('question', '')}\n안내봇: {t.get('answer', '')}" for t in history)
+
+# 문서 검색은 직전 질문까지 붙여서 ("그럼 신청은요?" 같은 이어지는 질문도 같은 제도 문서를 찾도록)
+def retrieval_query(inputs: Dict) -> str:
+    history = inputs.get("history") or []
+    if not history:
+        return inputs["question"]
+    return f"{history[-1].get('question', '')} {inputs['question']}"
+
+chatbot_chain = (
+    {
+        "context": retrieval_query | retriever,
+        "history": lambda inputs: format_history(inputs.get("history")),
+        "question": lambda inputs: inputs["question"],
+    }
+    | chatbot_prompt | llm | StrOutputParser()
+)
+
+def chatbot_input(req: Dict) -> Dict:
+    return {"question": req.get("question"), "history": req.get("history") or []}
+
+# 헬스 체크 (백엔드가 주기적으로 호출, LLM 을 부르지 않는 가벼운 응답)
+@app.get("/health")
+async def health():
+    return {"status": "ok"}
 
 # chatbot 엔드포인트
 @app.post("/chatbot")
 async def chatbot(req: Dict):
     try:
         # chatbot_chain 실행해서 llm 응답 받기
-        res = chatbot_chain.invoke(req.get("question"))
+        res = chatbot_chain.invoke(chatbot_input(req))
         return res
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
 
+# chatbot 스트리밍 엔드포인트 (SSE)
+# event: token / done / error, data: {"token": "..."} (앞뒤 공백이 있는 조각도 그대로 전달되도록 JSON 으로 감쌈)
+def sse_event(event: str, token: str) -> str:
+    return f"event: {event}\ndata: {json.dumps({'token': token}, ensure_ascii=False)}\n\n"
+
+@app.post("/chatbot/stream")
+async def chatbot_stream(req: Dict):
+    inputs = chatbot_input(req)
+
+    async def events():
+        try:
+            # 클라이언트가 연결을 끊으면 제너레이터가 취소되면서 생성도 멈춤
+            async for chunk in chatbot_chain.astream(inputs):
+                if chunk:
+                    yield sse_event("token", chunk)
+            yield sse_event("done", "")
+        except Exception as e:
+            yield sse_event("error", str(e))
+
+    return StreamingResponse(
+        events(),
+        media_type="text/event-stream",
+        headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"},
+    )
+
 # aiHelper 엔드포인트
 @app.post("/aiHelper", response_model=WelfareAnswer)
 async def aiHelper(req: Dict):
@@ -224,5 +282,23 @@ async def summary(req: Dict):
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
 
+# summary 묶음 엔드포인트 (백엔드가 짧은 시간 동안 모은 요약 요청을 한 번에 처리)
+# 요청: { "questions": ["...", "..."], "max_concurrency": 4 } / 응답: 요청 순서대로 요약문 리스트 (실패한 건은 "")
+# max_concurrency 는 백엔드가 동시 요청 한도에서 이 묶음 몫으로 잡아 둔 슬롯 수와 같음
+@app.post("/summary/batch", response_model=List[str])
+async def summary_batch(req: Dict):
+    questions = req.get("questions") or []
+    max_concurrency = max(1, int(req.get("max_concurrency") or 4))
+    try:
+        # 동시에 모델에 넘겨서 요청마다의 HTTP/대기 오버헤드를 줄임
+        results = await summary_chain.abatch(
+            [{"question": q} for q in questions],
+            config={"max_concurrency": max_concurrency},
+            return_exceptions=True,
+        )
+        return [r if isinstance(r, str) else "" for r in results]
+    except Exception as e:
+        raise HTTPException(status_code=500, detail=str(e))
+
 if __name__ == "__main__":
     uvicorn.run("main:app", host="127.0.0.1", port=8000, reload=False)
\ No newline at end of file
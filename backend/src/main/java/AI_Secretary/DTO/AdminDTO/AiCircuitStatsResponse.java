@@ -0,0 +1,13 @@
+package AI_Secretary.DTO.AdminDTO;
+
+/**
+ * AI 엔드포인트별 차단기 상태 (관리자 서버 모니터링용)
+ */
+public record AiCircuitStatsResponse(
+        String endpoint,
+        String state,           // CLOSED / OPEN / HALF_OPEN
+        double failureRate,     // 최근 윈도우 실패 비율 (0.0 ~ 1.0)
+        int windowCalls,        // 최근 윈도우에 기록된 호출 수
+        long openedCount,       // 차단된 횟수 누적
+        long shortCircuited     // 차단 중이라 호출 없이 바로 실패시킨 수
+) {}
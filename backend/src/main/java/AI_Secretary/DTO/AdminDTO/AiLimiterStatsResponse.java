@@ -0,0 +1,18 @@
+package AI_Secretary.DTO.AdminDTO;
+
+import java.util.Map;
+
+/**
+ * AI 서버 엔드포인트별 동시 요청 제한 현황 (관리자 서버 모니터링용)
+ */
+public record AiLimiterStatsResponse(
+        String endpoint,
+        double limit,           // 현재 동시 요청 한도 (응답 시간에 따라 자동 조절)
+        int inFlight,
+        int queued,
+        Map<String, Integer> queuedByPriority,   // INTERACTIVE / ADMIN / BACKGROUND 별 대기 수
+        double avgLatencyMs,    // 최근 응답 시간 이동 평균
+        long completed,
+        long dropped,           // 실패/타임아웃/과부하 판정으로 한도를 줄인 수
+        long rejected           // 대기열 초과/대기 시간 초과로 바로 거절한 수
+) {}
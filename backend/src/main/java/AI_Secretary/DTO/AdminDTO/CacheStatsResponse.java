@@ -0,0 +1,15 @@
+package AI_Secretary.DTO.AdminDTO;
+
+/**
+ * 인메모리 캐시 적중률 (관리자 서버 모니터링용)
+ */
+public record CacheStatsResponse(
+        String name,
+        int size,
+        int maxSize,
+        long hits,
+        long misses,
+        double hitRate,         // 0.0 ~ 1.0, 요청이 없었으면 0
+        long evictions,         // 용량 초과로 밀려난 수
+        long invalidations      // 입력 변경으로 지운 수
+) {}
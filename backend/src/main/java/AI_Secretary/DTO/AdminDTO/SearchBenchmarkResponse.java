@@ -0,0 +1,15 @@
+package AI_Secretary.DTO.AdminDTO;
+
+/**
+ * 검색 방식별 응답시간 비교 결과 (관리자 서버 모니터링 화면용)
+ */
+public record SearchBenchmarkResponse(
+        String keyword,
+        int iterations,
+        int indexedPolicies,
+        Result like,        // 기존 DB LIKE 쿼리
+        Result index,       // 인메모리 n-gram 인덱스 (정확 검색)
+        Result fuzzy        // 자모 기반 오타 허용 검색
+) {
+    public record Result(int hits, long avgMicros, long p95Micros) {}
+}
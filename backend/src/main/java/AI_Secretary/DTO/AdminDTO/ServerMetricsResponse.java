@@ -1,11 +1,18 @@
 package AI_Secretary.DTO.AdminDTO;
 
+import java.time.LocalDateTime;
+
 public record ServerMetricsResponse(
         ApiStatus api,
         AiStatus ai,
         DbStatus db
 ) {
     public record ApiStatus(String status, String uptime) {}
-    public record AiStatus(String status, Integer latencyMs) {}
+    /**
+     * status: UP / DEGRADED / DOWN / UNKNOWN(아직 체크 전)
+     * latencyMs: 마지막 헬스 체크 왕복 시간, p50/p95/p99: 최근 성공한 체크들의 백분위
+     */
+    public record AiStatus(String status, Integer latencyMs, Integer p50Ms, Integer p95Ms, Integer p99Ms,
+                           LocalDateTime checkedAt) {}
     public record DbStatus(String status, Integer active, Integer max) {}
 }
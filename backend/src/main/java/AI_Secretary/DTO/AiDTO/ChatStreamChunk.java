@@ -0,0 +1,10 @@
+package AI_Secretary.DTO.AiDTO;
+
+/**
+ * 챗봇 스트리밍(SSE) 이벤트 한 건의 data
+ * - event: token → 이어 붙일 답변 조각 / done → 끝 (token 빈 문자열) / error → 안내 문구
+ */
+public record ChatStreamChunk(
+        String token
+) {
+}
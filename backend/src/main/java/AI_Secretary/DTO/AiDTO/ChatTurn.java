@@ -0,0 +1,10 @@
+package AI_Secretary.DTO.AiDTO;
+
+/**
+ * 이전 대화 한 턴 (질문 + 답변), FastAPI /chatbot 의 history 항목으로 그대로 전송
+ */
+public record ChatTurn(
+        String question,
+        String answer
+) {
+}
@@ -0,0 +1,19 @@
+package AI_Secretary.DTO.SearchDTO;
+
+import java.util.List;
+
+/**
+ * 커서 기반 한 페이지 분량
+ * - 컨트롤러에서는 items 만 body 로 내리고 nextCursor 는 X-Next-Cursor 헤더로 전달
+ *   (기존 클라이언트가 배열 응답을 그대로 쓸 수 있게)
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor   // 마지막 페이지면 null
+) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
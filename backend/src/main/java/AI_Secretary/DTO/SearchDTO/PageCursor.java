@@ -0,0 +1,67 @@
+package AI_Secretary.DTO.SearchDTO;
+
+import AI_Secretary.Exceptions.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 목록/검색 페이지네이션 커서 (클라이언트에는 불투명한 문자열로 전달)
+ * - 키셋: 마지막 행의 (lastModifiedAt, id) → 다음 페이지는 그보다 "뒤" 행부터
+ * - 오프셋: 관련도순 검색 결과(인메모리 top-K)의 다음 시작 위치
+ */
+public record PageCursor(
+        LocalDateTime lastModifiedAt,   // 키셋 커서, null 이면 lastModifiedAt 이 null 인 구간
+        Long id,                        // 키셋 커서
+        Integer offset                  // 오프셋 커서
+) {
+    private static final String KEYSET = "k";
+    private static final String OFFSET = "o";
+    private static final String NULL = "-";
+
+    public static PageCursor keyset(LocalDateTime lastModifiedAt, Long id) {
+        return new PageCursor(lastModifiedAt, id, null);
+    }
+
+    public static PageCursor offset(int offset) {
+        return new PageCursor(null, null, offset);
+    }
+
+    public boolean isOffset() {
+        return offset != null;
+    }
+
+    public String encode() {
+        String raw = isOffset()
+                ? OFFSET + "|" + offset
+                : KEYSET + "|" + (lastModifiedAt != null ? lastModifiedAt.toString() : NULL) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * null/빈 문자열이면 첫 페이지(null)
+     * 해석할 수 없거나 오프셋이 음수면 InvalidPageCursorException (400)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (OFFSET.equals(parts[0]) && parts.length == 2) {
+                int offset = Integer.parseInt(parts[1]);
+                if (offset >= 0) {
+                    return offset(offset);
+                }
+            } else if (KEYSET.equals(parts[0]) && parts.length == 3) {
+                LocalDateTime at = NULL.equals(parts[1]) ? null : LocalDateTime.parse(parts[1]);
+                return keyset(at, Long.parseLong(parts[2]));
+            }
+        } catch (RuntimeException e) {
+            // 아래에서 공통 처리
+        }
+        throw new InvalidPageCursorException(cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package AI_Secretary.DTO.SearchDTO;
+
+public record PolicyFacetCount(
+        String value,   // 필터로 다시 넘길 값 (카테고리는 code)
+        String label,   // 화면 표시용 (카테고리는 이름, 나머지는 value 와 동일)
+        int count
+) {}
@@ -0,0 +1,11 @@
+package AI_Secretary.DTO.SearchDTO;
+
+import java.util.List;
+import java.util.Map;
+
+public record PolicyFacetedSearchResponse(
+        List<PolicySummaryDto> items,
+        int total,                                      // 필터 적용 후 전체 건수
+        Map<String, List<PolicyFacetCount>> facets,     // category, regionCtpv, regionSgg, supportCycle, onapPossible
+        String nextCursor                               // 마지막 페이지면 null
+) {}
@@ -0,0 +1,10 @@
+package AI_Secretary.DTO.SearchDTO;
+
+/**
+ * 검색바 자동완성 항목
+ */
+public record PolicySuggestionDto(
+        String text,        // 화면에 보여줄 문구 (정책명 / 카테고리명 / 부서명)
+        String type,        // POLICY, CATEGORY, DEPT
+        Long policyId       // type 이 POLICY 일 때만, 바로 상세로 이동용
+) {}
@@ -0,0 +1,11 @@
+package AI_Secretary.Exceptions;
+
+/**
+ * AI 엔드포인트 차단기(circuit breaker)가 열려 있어서 호출하지 않고 바로 실패한 요청
+ * (호출부는 마지막으로 성공한 결과나 기존 대체 응답으로 처리)
+ */
+public class AiCircuitOpenException extends RuntimeException {
+  public AiCircuitOpenException(String endpoint) {
+    super("AI circuit open. endpoint=" + endpoint);
+  }
+}
@@ -0,0 +1,11 @@
+package AI_Secretary.Exceptions;
+
+/**
+ * AI 서버 동시 요청 한도 + 대기열이 가득 차서 바로 거절된 요청
+ * (호출부는 기존 실패 처리와 같은 대체 응답으로 처리)
+ */
+public class AiServerBusyException extends RuntimeException {
+  public AiServerBusyException(String endpoint) {
+    super("AI server busy. endpoint=" + endpoint);
+  }
+}
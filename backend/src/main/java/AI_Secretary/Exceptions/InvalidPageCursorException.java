@@ -0,0 +1,14 @@
+package AI_Secretary.Exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 해석할 수 없거나 범위를 벗어난 페이지 커서 (클라이언트 잘못 → 400)
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPageCursorException extends IllegalArgumentException {
+  public InvalidPageCursorException(String cursor) {
+    super("잘못된 페이지 커서입니다. cursor=" + cursor);
+  }
+}
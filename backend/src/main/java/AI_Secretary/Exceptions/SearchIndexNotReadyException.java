@@ -0,0 +1,14 @@
+package AI_Secretary.Exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 인메모리 검색 인덱스가 아직 빌드 중이라 처리할 수 없는 요청 (기동 직후 잠깐 → 503, 잠시 후 재시도)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SearchIndexNotReadyException extends IllegalStateException {
+  public SearchIndexNotReadyException() {
+    super("검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+  }
+}
@@ -1,11 +1,21 @@
 package AI_Secretary.client;
 
+import AI_Secretary.DTO.AiDTO.ChatStreamChunk;
+import AI_Secretary.DTO.AiDTO.ChatTurn;
+import AI_Secretary.Exceptions.AiCircuitOpenException;
+import AI_Secretary.Exceptions.AiServerBusyException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -13,42 +23,92 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AiChatbotClient {
 
+    public static final String FALLBACK_ANSWER = "현재는 상담이 원활하지 않습니다. 잠시 후 다시 시도해 주세요.";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<ChatStreamChunk>> CHUNK_EVENT =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient aiWebClient; // AiServerConfig 에서 주입
 
     /**
-     * FastAPI /chatbot 엔드포인트 호출
-     * 요청: { "question": "..." }
-     * 응답: String (LLM 답변)
+     * FastAPI /chatbot 엔드포인트 호출 (논블로킹)
+     * 요청: { "question": "...", "history": [{ "question": "...", "answer": "..." }, ...] }
+     * 응답: String (LLM 답변), 실패 시 안내 문구
+     * - history 는 ChatSessionStore 가 토큰 예산에 맞춰 잘라 둔 이전 대화 (오래된 순, 없으면 빈 리스트)
+     * - userId 는 ai_request_log 기록용 (비로그인이면 null)
+     */
+    public Mono<String> askAsync(String question) {
+        return askAsync(question, List.of(), null);
+    }
+
+    public Mono<String> askAsync(String question, List<ChatTurn> history, Long userId) {
+        Map<String, Object> body = Map.of("question", question, "history", history);
+
+        return aiWebClient.post()
+                .uri("/chatbot")
+                .attribute(AiPriority.ATTRIBUTE, AiPriority.INTERACTIVE)
+                .attribute(AiRequestRecorder.USER_ID_ATTRIBUTE, userId)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(15)) // 필요하면 timeout 조정
+                .onErrorResume(e -> {
+                    if (e instanceof AiServerBusyException || e instanceof AiCircuitOpenException) {
+                        log.warn("Rejected /chatbot call: {}", e.getMessage());
+                    } else {
+                        log.error("Failed to call /chatbot", e);
+                    }
+                    return Mono.just(FALLBACK_ANSWER);
+                });
+    }
+
+    /**
+     * FastAPI /chatbot/stream 엔드포인트 호출 (SSE)
+     * 요청: { "question": "...", "history": [...] } (askAsync 와 동일)
+     * 응답: event: token / done / error, data: { "token": "..." }
+     * - 답변 조각이 생성되는 대로 흘려보냄, 구독을 취소하면(클라이언트 연결 끊김) AI 서버 연결도 끊음
+     * - 첫 조각은 15초, 이후 조각 사이는 30초 안에 와야 함
+     * - 실패는 error 신호로 그대로 전달 (이미 보낸 조각 뒤에 대체 문구를 붙이지 않도록 호출부에서 처리)
+     */
+    public Flux<String> askStream(String question) {
+        return askStream(question, List.of(), null);
+    }
+
+    public Flux<String> askStream(String question, List<ChatTurn> history, Long userId) {
+        Map<String, Object> body = Map.of("question", question, "history", history);
+
+        return aiWebClient.post()
+                .uri("/chatbot/stream")
+                .attribute(AiPriority.ATTRIBUTE, AiPriority.INTERACTIVE)
+                .attribute(AiRequestRecorder.USER_ID_ATTRIBUTE, userId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(CHUNK_EVENT)
+                .<String>handle((event, sink) -> {
+                    if ("error".equals(event.event())) {
+                        String reason = event.data() != null ? event.data().token() : null;
+                        sink.error(new IllegalStateException("AI server stream error: " + reason));
+                    } else if (!"done".equals(event.event())
+                            && event.data() != null && event.data().token() != null
+                            && !event.data().token().isEmpty()) {
+                        sink.next(event.data().token());
+                    }
+                })
+                .timeout(Mono.delay(Duration.ofSeconds(15)), token -> Mono.delay(Duration.ofSeconds(30)))
+                .doOnError(e -> {
+                    if (e instanceof AiServerBusyException || e instanceof AiCircuitOpenException) {
+                        log.warn("Rejected /chatbot/stream call: {}", e.getMessage());
+                    } else {
+                        log.error("Failed to stream /chatbot", e);
+                    }
+                });
+    }
+
+    /**
+     * 블로킹 버전 (요청 스레드에서는 askAsync 사용)
      */
     public String ask(String question) {
-        try {
-            Map<String, Object> body = Map.of("question", question);
-
-            String docs = aiWebClient.get()
-                    .uri("/docs")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(5));
-
-            System.out.println("### /docs length = " + (docs != null ? docs.length() : -1));
-
-//            Map<String, Object> body = Map.of("question", question);
-//
-//            return aiWebClient.post()
-//                    .uri("/chatbot")
-//                    .bodyValue(body)
-//                    .retrieve()
-//                    .bodyToMono(String.class)
-//                    .block(Duration.ofSeconds(15));
-            return aiWebClient.post()
-                    .uri("/chatbot")
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(15)); // 필요하면 timeout 조정
-        } catch (Exception e) {
-            log.error("Failed to call /chatbot", e);
-            return "현재는 상담이 원활하지 않습니다. 잠시 후 다시 시도해 주세요.";
-        }
+        return askAsync(question).block();
     }
-}
\ No newline at end of file
+}
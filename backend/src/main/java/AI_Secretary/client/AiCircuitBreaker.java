@@ -0,0 +1,305 @@
+package AI_Secretary.client;
+
+import AI_Secretary.DTO.AdminDTO.AiCircuitStatsResponse;
+import AI_Secretary.Exceptions.AiCircuitOpenException;
+import AI_Secretary.Exceptions.AiServerBusyException;
+import AI_Secretary.config.AiCircuitBreakerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 엔드포인트별 차단기 (circuit breaker)
+ *
+ * - CLOSED: 최근 windowSize 건의 성공/실패를 기록, 실패율이 failureRateThreshold 이상이면 OPEN
+ * - OPEN: 호출하지 않고 바로 AiCircuitOpenException (터널이 죽었을 때 매 요청이 타임아웃까지 기다리지 않게)
+ * - openDurationMs 가 지나면 HALF_OPEN: 시험 호출 halfOpenProbes 건만 통과, 전부 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * - 실패: 연결 오류, 5xx, 타임아웃(취소). 동시 요청 제한에 걸린 거절(AiServerBusyException)은 서버 상태와 무관해서 기록 안 함
+ *   응답 본문을 받는 중의 취소(스트리밍 중 클라이언트 이탈)도 기록 안 함
+ * - AiHealthProber 가 서버 다운을 확인하면 전체 OPEN, 회복을 확인하면 바로 HALF_OPEN (openAll / probeOpenNow)
+ * - 동시 요청 제한(AiConcurrencyLimiter)보다 바깥에 둠 → 차단 중인 요청은 슬롯/대기열도 차지하지 않음
+ */
+@Slf4j
+@Component
+public class AiCircuitBreaker implements ExchangeFilterFunction {
+
+    private final AiCircuitBreakerProperties properties;
+    private final Map<String, EndpointCircuit> circuits = new LinkedHashMap<>();
+
+    public AiCircuitBreaker(AiCircuitBreakerProperties properties) {
+        this.properties = properties;
+        for (String endpoint : properties.getEndpoints()) {
+            circuits.put(endpoint, new EndpointCircuit(endpoint, properties));
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        EndpointCircuit circuit = circuits.get(request.url().getPath());
+        if (!properties.isEnabled() || circuit == null) {
+            return next.exchange(request);
+        }
+
+        return Mono.defer(() -> {
+            Call call = circuit.tryAcquire();
+            if (call == null) {
+                return Mono.error(new AiCircuitOpenException(circuit.endpoint));
+            }
+            return next.exchange(request)
+                    .map(response -> {
+                        call.markResponded();
+                        if (response.statusCode().is5xxServerError()) {
+                            call.markFailed();
+                        }
+                        return response.mutate()
+                                .body(body -> body.doFinally(signal -> {
+                                    if (signal == SignalType.CANCEL) {
+                                        call.ignore();
+                                    } else {
+                                        call.complete(signal == SignalType.ON_COMPLETE);
+                                    }
+                                }))
+                                .build();
+                    })
+                    .doOnError(e -> {
+                        if (e instanceof AiServerBusyException) {
+                            call.ignore();
+                        } else {
+                            call.complete(false);
+                        }
+                    })
+                    .doOnCancel(call::cancel);
+        });
+    }
+
+    /**
+     * 차단 중이면 true (호출부에서 요청 자체를 만들지 않고 건너뛸 때 사용)
+     */
+    public boolean isOpen(String endpoint) {
+        EndpointCircuit circuit = circuits.get(endpoint);
+        return properties.isEnabled() && circuit != null && circuit.isOpen();
+    }
+
+    /**
+     * 헬스 체크(AiHealthProber)가 서버 다운을 확인하면 전체 차단 (실제 요청 실패가 쌓일 때까지 기다리지 않음)
+     */
+    public void openAll() {
+        if (!properties.isEnabled()) return;
+        circuits.values().forEach(EndpointCircuit::forceOpen);
+    }
+
+    /**
+     * 헬스 체크가 회복을 확인하면 차단 중인 엔드포인트를 openDurationMs 를 기다리지 않고 바로 시험 호출 단계로
+     */
+    public void probeOpenNow() {
+        circuits.values().forEach(EndpointCircuit::expireOpen);
+    }
+
+    public List<AiCircuitStatsResponse> stats() {
+        List<AiCircuitStatsResponse> result = new ArrayList<>(circuits.size());
+        for (EndpointCircuit circuit : circuits.values()) {
+            result.add(circuit.stats());
+        }
+        return result;
+    }
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 엔드포인트 하나의 상태 + 최근 호출 결과 링버퍼
+     */
+    private static final class EndpointCircuit {
+
+        private final String endpoint;
+        private final AiCircuitBreakerProperties properties;
+
+        private final boolean[] failuresRing;
+        private int ringPos;
+        private int ringCount;
+        private int ringFailures;
+
+        private State state = State.CLOSED;
+        private long openedAtMillis;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        private final LongAdder openedCount = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+
+        EndpointCircuit(String endpoint, AiCircuitBreakerProperties properties) {
+            this.endpoint = endpoint;
+            this.properties = properties;
+            this.failuresRing = new boolean[Math.max(1, properties.getWindowSize())];
+        }
+
+        /**
+         * @return 통과면 Call, 차단이면 null
+         */
+        synchronized Call tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAtMillis < properties.getOpenDurationMs()) {
+                    shortCircuited.increment();
+                    return null;
+                }
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+                log.info("[AiCircuitBreaker] {} HALF_OPEN (probing)", endpoint);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight + probeSuccesses >= properties.getHalfOpenProbes()) {
+                    shortCircuited.increment();
+                    return null;
+                }
+                probesInFlight++;
+                return new Call(this, true);
+            }
+            return new Call(this, false);
+        }
+
+        synchronized void onResult(boolean probe, boolean success) {
+            if (probe) {
+                if (state != State.HALF_OPEN) return;
+                probesInFlight--;
+                if (!success) {
+                    open();
+                } else if (++probeSuccesses >= properties.getHalfOpenProbes()) {
+                    close();
+                }
+                return;
+            }
+            // 차단 전에 출발했던 호출 결과는 새 윈도우에 섞지 않음
+            if (state != State.CLOSED) return;
+
+            if (ringCount == failuresRing.length) {
+                if (failuresRing[ringPos]) ringFailures--;
+            } else {
+                ringCount++;
+            }
+            failuresRing[ringPos] = !success;
+            if (!success) ringFailures++;
+            ringPos = (ringPos + 1) % failuresRing.length;
+
+            if (ringCount >= properties.getMinimumCalls()
+                    && failureRate() >= properties.getFailureRateThreshold()) {
+                open();
+            }
+        }
+
+        synchronized void onIgnored(boolean probe) {
+            if (probe && state == State.HALF_OPEN) {
+                probesInFlight--;
+            }
+        }
+
+        synchronized void forceOpen() {
+            if (state != State.OPEN) {
+                open();
+            }
+        }
+
+        synchronized void expireOpen() {
+            if (state == State.OPEN) {
+                openedAtMillis = System.currentTimeMillis() - properties.getOpenDurationMs();
+            }
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN
+                    && System.currentTimeMillis() - openedAtMillis < properties.getOpenDurationMs();
+        }
+
+        synchronized AiCircuitStatsResponse stats() {
+            return new AiCircuitStatsResponse(
+                    endpoint,
+                    state.name(),
+                    failureRate(),
+                    ringCount,
+                    openedCount.sum(),
+                    shortCircuited.sum()
+            );
+        }
+
+        private double failureRate() {
+            return ringCount == 0 ? 0.0 : (double) ringFailures / ringCount;
+        }
+
+        private void open() {
+            log.warn("[AiCircuitBreaker] {} OPEN. failureRate={}, window={}", endpoint,
+                    String.format("%.2f", failureRate()), ringCount);
+            state = State.OPEN;
+            openedAtMillis = System.currentTimeMillis();
+            openedCount.increment();
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+
+        private void close() {
+            log.info("[AiCircuitBreaker] {} CLOSED (recovered)", endpoint);
+            state = State.CLOSED;
+            ringPos = 0;
+            ringCount = 0;
+            ringFailures = 0;
+        }
+    }
+
+    /**
+     * 통과한 호출 하나 (결과 기록은 한 번만)
+     */
+    private static final class Call {
+
+        private final EndpointCircuit owner;
+        private final boolean probe;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile boolean failed;
+        private volatile boolean responded;
+
+        Call(EndpointCircuit owner, boolean probe) {
+            this.owner = owner;
+            this.probe = probe;
+        }
+
+        void markFailed() {
+            failed = true;
+        }
+
+        void markResponded() {
+            responded = true;
+        }
+
+        /**
+         * 응답 전 취소(타임아웃 등)는 실패, 응답을 받은 뒤의 취소는 기록 안 함
+         */
+        void cancel() {
+            if (responded) {
+                ignore();
+            } else {
+                complete(false);
+            }
+        }
+
+        void complete(boolean ok) {
+            if (done.compareAndSet(false, true)) {
+                owner.onResult(probe, ok && !failed);
+            }
+        }
+
+        void ignore() {
+            if (done.compareAndSet(false, true)) {
+                owner.onIgnored(probe);
+            }
+        }
+    }
+}
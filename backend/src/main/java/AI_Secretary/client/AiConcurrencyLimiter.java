@@ -0,0 +1,370 @@
+package AI_Secretary.client;
+
+import AI_Secretary.DTO.AdminDTO.AiLimiterStatsResponse;
+import AI_Secretary.Exceptions.AiServerBusyException;
+import AI_Secretary.config.AiLimiterProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * aiWebClient 앞단의 엔드포인트별 동시 요청 제한 + 우선순위 스케줄러 (bulkhead + AIMD 적응형 한도)
+ *
+ * - /chatbot, /aiHelper, /summary, /change-report 가 각자 한도/대기열을 가짐 (한 엔드포인트 폭주가 다른 쪽을 막지 않게)
+ *   sharedEndpoints 의 경로(/summary/batch)는 대상 경로(/summary)의 한도/대기열을 같이 씀
+ * - PERMITS_ATTRIBUTE 로 한 요청이 슬롯 여러 개를 차지할 수 있음 (서버에서 N 건을 동시에 돌리는 묶음 요청)
+ *   한도보다 많이 요청하면 한도만큼만 (그 요청이 끝날 때까지 같은 엔드포인트의 다른 요청은 대기)
+ * - 한도: 응답이 평소 수준이면 조금씩 늘리고(+1/limit), 느려지거나(평균 × latencyTolerance 초과) 실패하면 backoffRatio 배로 줄임
+ *   → Ollama 한 대가 버틸 수 있는 동시 처리 수를 응답 시간으로 추정
+ * - 한도를 넘으면 대기열에서 기다리고, 대기열이 가득 차거나 maxQueueWaitMs 를 넘기면 AiServerBusyException 으로 바로 실패
+ *   (각 서비스의 onErrorResume 이 기존 대체 응답으로 바꿔줌)
+ * - 대기열은 AiPriority 별로 따로: 사용자 요청(INTERACTIVE) → 관리자(ADMIN) → 백그라운드(BACKGROUND) 순으로 꺼냄
+ *   기아 방지: agingMs 기다릴 때마다 한 단계씩 앞 순위로 취급 (오래 기다린 백그라운드 작업도 결국 나감)
+ *   대기열이 가득 찼을 때 더 높은 순위 요청이 오면 가장 낮은 순위의 마지막 대기자를 대신 거절
+ * - 슬롯은 응답 본문을 다 읽거나(성공) 취소/실패할 때 반납 (스트리밍 응답은 스트림이 끝날 때까지 차지)
+ */
+@Slf4j
+@Component
+public class AiConcurrencyLimiter implements ExchangeFilterFunction {
+
+    /**
+     * 요청이 차지할 슬롯 수 (Integer, 없으면 1)
+     */
+    public static final String PERMITS_ATTRIBUTE = AiConcurrencyLimiter.class.getName() + ".permits";
+
+    private final AiLimiterProperties properties;
+    private final Map<String, EndpointLimit> limits = new LinkedHashMap<>();
+
+    public AiConcurrencyLimiter(AiLimiterProperties properties) {
+        this.properties = properties;
+        for (String endpoint : properties.getEndpoints()) {
+            limits.put(endpoint, new EndpointLimit(endpoint, properties));
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String path = request.url().getPath();
+        EndpointLimit limit = limits.get(properties.getSharedEndpoints().getOrDefault(path, path));
+        if (!properties.isEnabled() || limit == null) {
+            return next.exchange(request);
+        }
+
+        AiPriority priority = request.attribute(AiPriority.ATTRIBUTE)
+                .map(AiPriority.class::cast)
+                .orElse(AiPriority.INTERACTIVE);
+        int permits = request.attribute(PERMITS_ATTRIBUTE)
+                .map(Integer.class::cast)
+                .orElse(1);
+
+        return limit.acquire(priority, permits).flatMap(permit -> next.exchange(request)
+                .map(response -> {
+                    permit.markResponded();
+                    if (response.statusCode().is5xxServerError()) {
+                        permit.markFailed();
+                    }
+                    return response.mutate()
+                            .body(body -> body.doFinally(signal -> {
+                                // 응답이 이미 오기 시작한 뒤의 취소(스트리밍 중 클라이언트 이탈)는 서버 상태와 무관 → 한도 조절 없이 반납
+                                if (signal == SignalType.CANCEL) {
+                                    permit.abandon();
+                                } else {
+                                    permit.release(signal == SignalType.ON_COMPLETE);
+                                }
+                            }))
+                            .build();
+                })
+                .doOnError(e -> permit.release(false))
+                .doOnCancel(permit::cancel));
+    }
+
+    public List<AiLimiterStatsResponse> stats() {
+        List<AiLimiterStatsResponse> result = new ArrayList<>(limits.size());
+        for (EndpointLimit limit : limits.values()) {
+            result.add(limit.stats());
+        }
+        return result;
+    }
+
+    /**
+     * 엔드포인트 하나의 한도 / 대기열
+     */
+    private static final class EndpointLimit {
+
+        private static final double LATENCY_EWMA_ALPHA = 0.1;
+
+        private final String endpoint;
+        private final AiLimiterProperties properties;
+        private final Map<AiPriority, ArrayDeque<Waiter>> waiters = new EnumMap<>(AiPriority.class);
+        private int waiting;
+
+        private double limit;
+        private int inFlight;
+        private double avgLatencyMs = -1;   // 첫 응답 전에는 기준 없음
+
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private record Waiter(MonoSink<Permit> sink, AiPriority priority, int permits, long enqueuedAtNanos) {}
+
+        EndpointLimit(String endpoint, AiLimiterProperties properties) {
+            this.endpoint = endpoint;
+            this.properties = properties;
+            this.limit = Math.max(1, properties.getInitialLimit());
+            for (AiPriority priority : AiPriority.values()) {
+                waiters.put(priority, new ArrayDeque<>());
+            }
+        }
+
+        Mono<Permit> acquire(AiPriority priority, int permits) {
+            return Mono.<Permit>create(sink -> {
+                        Permit granted = null;
+                        Waiter evicted = null;
+                        boolean reject = false;
+                        Waiter waiter = new Waiter(sink, priority, Math.max(1, permits), System.nanoTime());
+                        synchronized (this) {
+                            int weight = weightOf(waiter);
+                            if (waiting == 0 && inFlight + weight <= (int) limit) {
+                                inFlight += weight;
+                                granted = new Permit(this, inFlight, weight);
+                            } else if (waiting >= properties.getQueueCapacity()
+                                    && (evicted = evictLowerThan(priority)) == null) {
+                                reject = true;
+                            } else {
+                                waiters.get(priority).addLast(waiter);
+                                waiting++;
+                            }
+                        }
+                        if (evicted != null) {
+                            rejected.increment();
+                            evicted.sink().error(new AiServerBusyException(endpoint));
+                        }
+                        if (granted != null) {
+                            sink.success(granted);
+                        } else if (reject) {
+                            rejected.increment();
+                            sink.error(new AiServerBusyException(endpoint));
+                        } else {
+                            // 대기 중 취소(타임아웃 포함) → 대기열에서 빼기
+                            sink.onCancel(() -> {
+                                synchronized (this) {
+                                    if (waiters.get(priority).remove(waiter)) waiting--;
+                                }
+                            });
+                        }
+                    })
+                    .timeout(Duration.ofMillis(properties.getMaxQueueWaitMs()), Mono.defer(() -> {
+                        rejected.increment();
+                        return Mono.error(new AiServerBusyException(endpoint));
+                    }))
+                    // 취소와 슬롯 배정이 엇갈려서 받을 사람이 없어진 슬롯은 바로 반납
+                    .doOnDiscard(Permit.class, Permit::abandon);
+        }
+
+        void onComplete(long latencyNanos, boolean ok, int inFlightAtStart, int weight) {
+            List<Granted> granted;
+            synchronized (this) {
+                inFlight -= weight;
+                double latencyMs = latencyNanos / 1_000_000.0;
+                if (!ok) {
+                    decrease();
+                } else if (weight > 1) {
+                    // 묶음 요청은 건수만큼 오래 걸리므로 응답 시간 기준(평균/한도 증가)에는 넣지 않고 성공만 셈
+                    completed.increment();
+                } else {
+                    completed.increment();
+                    if (avgLatencyMs >= 0 && latencyMs > avgLatencyMs * properties.getLatencyTolerance()) {
+                        decrease();
+                    } else if (inFlightAtStart * 2 >= limit) {
+                        // 한도 근처까지 쓰고 있을 때만 늘림 (한가할 때 한도만 부풀지 않게)
+                        limit = Math.min(properties.getMaxLimit(), limit + 1.0 / limit);
+                    }
+                    avgLatencyMs = avgLatencyMs < 0
+                            ? latencyMs
+                            : avgLatencyMs * (1 - LATENCY_EWMA_ALPHA) + latencyMs * LATENCY_EWMA_ALPHA;
+                }
+                granted = drain();
+            }
+            grant(granted);
+        }
+
+        void onAbandon(int weight) {
+            List<Granted> granted;
+            synchronized (this) {
+                inFlight -= weight;
+                granted = drain();
+            }
+            grant(granted);
+        }
+
+        synchronized AiLimiterStatsResponse stats() {
+            Map<String, Integer> queuedByPriority = new LinkedHashMap<>();
+            for (Map.Entry<AiPriority, ArrayDeque<Waiter>> e : waiters.entrySet()) {
+                queuedByPriority.put(e.getKey().name(), e.getValue().size());
+            }
+            return new AiLimiterStatsResponse(
+                    endpoint,
+                    limit,
+                    inFlight,
+                    waiting,
+                    queuedByPriority,
+                    Math.max(0, avgLatencyMs),
+                    completed.sum(),
+                    dropped.sum(),
+                    rejected.sum()
+            );
+        }
+
+        private void decrease() {
+            double before = limit;
+            limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+            dropped.increment();
+            if ((int) before != (int) limit) {
+                log.info("[AiConcurrencyLimiter] {} limit {} -> {}", endpoint, (int) before, (int) limit);
+            }
+        }
+
+        /**
+         * 실제로 차지할 슬롯 수 (한도보다 크면 한도만큼, lock 안에서 호출)
+         */
+        private int weightOf(Waiter waiter) {
+            return Math.min(waiter.permits(), Math.max(1, (int) limit));
+        }
+
+        /**
+         * 한도 안에서 대기자 꺼내기 (lock 안에서 호출)
+         * 다음 차례가 슬롯 여러 개를 기다리면 뒤 요청이 끼어들지 않고 자리가 날 때까지 멈춤 (묶음 요청 기아 방지)
+         */
+        private List<Granted> drain() {
+            List<Granted> granted = List.of();
+            while (waiting > 0) {
+                ArrayDeque<Waiter> queue = nextQueue();
+                int weight = weightOf(queue.peekFirst());
+                if (inFlight + weight > (int) limit) break;
+                if (granted.isEmpty()) granted = new ArrayList<>();
+                granted.add(new Granted(queue.pollFirst().sink(), weight));
+                waiting--;
+                inFlight += weight;
+            }
+            return granted;
+        }
+
+        /**
+         * 순위별 대기열 맨 앞 중에서 (순위 × agingMs + 대기 시작 시각) 이 가장 작은 대기자의 대기열
+         * → 같은 순위면 먼저 온 순, agingMs 이상 더 기다린 낮은 순위는 높은 순위보다 먼저
+         */
+        private ArrayDeque<Waiter> nextQueue() {
+            long agingNanos = Duration.ofMillis(properties.getAgingMs()).toNanos();
+            ArrayDeque<Waiter> best = null;
+            long bestKey = Long.MAX_VALUE;
+            for (ArrayDeque<Waiter> queue : waiters.values()) {
+                Waiter head = queue.peekFirst();
+                if (head == null) continue;
+                long key = head.priority().rank() * agingNanos + head.enqueuedAtNanos();
+                if (best == null || key < bestKey) {
+                    best = queue;
+                    bestKey = key;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * 대기열이 가득 찼을 때 priority 보다 낮은 순위 중 가장 낮은 순위의 마지막 대기자를 빼냄 (없으면 null)
+         */
+        private Waiter evictLowerThan(AiPriority priority) {
+            AiPriority[] all = AiPriority.values();
+            for (int i = all.length - 1; i >= 0 && all[i].rank() > priority.rank(); i--) {
+                Waiter victim = waiters.get(all[i]).pollLast();
+                if (victim != null) {
+                    waiting--;
+                    return victim;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * lock 밖에서 슬롯 전달 (구독자 콜백이 lock 을 잡고 돌지 않게)
+         */
+        private void grant(List<Granted> grants) {
+            for (Granted g : grants) {
+                int current;
+                synchronized (this) {
+                    current = inFlight;
+                }
+                g.sink().success(new Permit(this, current, g.weight()));
+            }
+        }
+
+        private record Granted(MonoSink<Permit> sink, int weight) {}
+    }
+
+    /**
+     * 요청 하나가 차지한 슬롯 (반납은 한 번만)
+     */
+    private static final class Permit {
+
+        private final EndpointLimit owner;
+        private final int inFlightAtStart;
+        private final int weight;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean failed;
+        private volatile boolean responded;
+
+        Permit(EndpointLimit owner, int inFlightAtStart, int weight) {
+            this.owner = owner;
+            this.inFlightAtStart = inFlightAtStart;
+            this.weight = weight;
+        }
+
+        void markFailed() {
+            failed = true;
+        }
+
+        void markResponded() {
+            responded = true;
+        }
+
+        /**
+         * 응답 전 취소(타임아웃 등)는 실패, 응답을 받은 뒤의 취소는 한도 조절 없이 반납
+         */
+        void cancel() {
+            if (responded) {
+                abandon();
+            } else {
+                release(false);
+            }
+        }
+
+        void release(boolean ok) {
+            if (released.compareAndSet(false, true)) {
+                owner.onComplete(System.nanoTime() - startedAt, ok && !failed, inFlightAtStart, weight);
+            }
+        }
+
+        void abandon() {
+            if (released.compareAndSet(false, true)) {
+                owner.onAbandon(weight);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package AI_Secretary.client;
+
+import AI_Secretary.DTO.AdminDTO.ServerMetricsResponse;
+import AI_Secretary.config.AiHealthProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 서버 주기적 헬스 체크 (요청 경로에서는 체크하지 않고 여기서 모아 둔 상태만 읽음)
+ *
+ * - intervalMs 마다 GET /health 왕복 시간을 재고, 최근 windowSize 건으로 p50/p95/p99 계산
+ * - 상태: UP / DEGRADED(p95 가 slowThresholdMs 초과 또는 실패가 막 시작됨) / DOWN(연속 downAfterFailures 회 실패) / UNKNOWN
+ * - DOWN 이 되면 AI 엔드포인트 차단기를 전부 OPEN → 챗봇/요약 등은 타임아웃을 기다리지 않고 바로 대체 응답
+ *   회복하면 차단기를 바로 시험 호출(HALF_OPEN) 단계로 넘김
+ * - 체크는 논블로킹으로 던지고 끝나기 전에는 다음 체크를 건너뜀 (스케줄러 스레드를 잡지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiHealthProber {
+
+    public enum Status { UNKNOWN, UP, DEGRADED, DOWN }
+
+    private final WebClient aiWebClient;
+    private final AiHealthProperties properties;
+    private final AiCircuitBreaker aiCircuitBreaker;
+
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private long[] latencyRing;
+    private int ringPos;
+    private int ringCount;
+
+    private Status status = Status.UNKNOWN;
+    private int consecutiveFailures;
+    private Integer lastLatencyMs;
+    private LocalDateTime lastCheckedAt;
+
+    @Scheduled(
+            fixedDelayString = "${ai.health.interval-ms:10000}",
+            initialDelayString = "${ai.health.initial-delay-ms:5000}"
+    )
+    public void probe() {
+        if (!properties.isEnabled() || !probing.compareAndSet(false, true)) return;
+
+        long start = System.nanoTime();
+        aiWebClient.get()
+                .uri(properties.getPath())
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofMillis(properties.getTimeoutMs()))
+                .doFinally(signal -> probing.set(false))
+                .subscribe(
+                        response -> onSuccess((System.nanoTime() - start) / 1_000_000),
+                        this::onFailure
+                );
+    }
+
+    public synchronized Status status() {
+        return status;
+    }
+
+    public boolean isDown() {
+        return status() == Status.DOWN;
+    }
+
+    /**
+     * 관리자 서버 모니터링용 (마지막 체크 결과 + 최근 백분위)
+     */
+    public synchronized ServerMetricsResponse.AiStatus snapshot() {
+        long[] sorted = sortedLatencies();
+        return new ServerMetricsResponse.AiStatus(
+                status.name(),
+                lastLatencyMs,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.95),
+                percentile(sorted, 0.99),
+                lastCheckedAt
+        );
+    }
+
+    private void onSuccess(long latencyMs) {
+        Status before;
+        Status after;
+        synchronized (this) {
+            before = status;
+            record(latencyMs);
+            consecutiveFailures = 0;
+            lastLatencyMs = (int) latencyMs;
+            lastCheckedAt = LocalDateTime.now();
+            Integer p95 = percentile(sortedLatencies(), 0.95);
+            status = p95 != null && p95 > properties.getSlowThresholdMs() ? Status.DEGRADED : Status.UP;
+            after = status;
+        }
+        if (before == Status.DOWN) {
+            log.info("[AiHealthProber] AI server recovered. latency={}ms", latencyMs);
+            aiCircuitBreaker.probeOpenNow();
+        } else if (before != after && after == Status.DEGRADED) {
+            log.warn("[AiHealthProber] AI server slow. p95 over {}ms", properties.getSlowThresholdMs());
+        }
+    }
+
+    private void onFailure(Throwable e) {
+        boolean down;
+        boolean wentDown;
+        synchronized (this) {
+            consecutiveFailures++;
+            lastLatencyMs = null;
+            lastCheckedAt = LocalDateTime.now();
+            down = consecutiveFailures >= Math.max(1, properties.getDownAfterFailures());
+            wentDown = down && status != Status.DOWN;
+            status = down ? Status.DOWN : Status.DEGRADED;
+        }
+        if (wentDown) {
+            log.warn("[AiHealthProber] AI server DOWN after {} failed checks: {}", consecutiveFailures, e.toString());
+        }
+        if (down) {
+            // 차단기가 혼자 HALF_OPEN/CLOSED 로 넘어갔어도 서버가 죽어 있는 동안은 계속 OPEN
+            aiCircuitBreaker.openAll();
+        }
+    }
+
+    private void record(long latencyMs) {
+        int size = Math.max(1, properties.getWindowSize());
+        if (latencyRing == null || latencyRing.length != size) {
+            latencyRing = new long[size];
+            ringPos = 0;
+            ringCount = 0;
+        }
+        latencyRing[ringPos] = latencyMs;
+        ringPos = (ringPos + 1) % size;
+        if (ringCount < size) ringCount++;
+    }
+
+    private long[] sortedLatencies() {
+        if (ringCount == 0) return new long[0];
+        long[] sorted = Arrays.copyOf(latencyRing, ringCount);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * nearest-rank 백분위 (샘플 없으면 null)
+     */
+    private static Integer percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return null;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return (int) sorted[Math.max(0, rank - 1)];
+    }
+}
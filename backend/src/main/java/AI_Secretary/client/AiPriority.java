@@ -0,0 +1,25 @@
+package AI_Secretary.client;
+
+/**
+ * AI 서버 요청 우선순위 (숫자가 작을수록 먼저)
+ * - 요청마다 WebClient attribute(ATTRIBUTE) 로 붙이면 AiConcurrencyLimiter 대기열이 이 순서로 꺼냄
+ * - 붙이지 않은 요청은 INTERACTIVE
+ */
+public enum AiPriority {
+
+    INTERACTIVE(0),   // 사용자 채팅, 정책 상세
+    ADMIN(1),         // 관리자 변경 보고서 초안
+    BACKGROUND(2);    // 요약 재생성, 미리 만들어 두기(prewarm) 등
+
+    public static final String ATTRIBUTE = AiPriority.class.getName();
+
+    private final int rank;
+
+    AiPriority(int rank) {
+        this.rank = rank;
+    }
+
+    public int rank() {
+        return rank;
+    }
+}
@@ -0,0 +1,120 @@
+package AI_Secretary.client;
+
+import AI_Secretary.Exceptions.AiCircuitOpenException;
+import AI_Secretary.Exceptions.AiServerBusyException;
+import AI_Secretary.config.AiRequestLogProperties;
+import AI_Secretary.service.Ai.AiRequestLogWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * aiWebClient 호출마다 소요 시간 / 결과를 ai_request_log 에 기록 (가장 바깥 필터)
+ *
+ * - 소요 시간: 요청 시작 ~ 응답 본문 끝 (차단기/동시 요청 제한 대기 포함, 사용자가 실제로 기다린 시간)
+ * - 상태: SUCCESS / ERROR(연결 오류, 4xx/5xx) / TIMEOUT(응답 전 취소) / REJECTED(차단기/대기열 거절) / CANCELLED(응답 도중 취소)
+ * - 대상 정책/문서/사용자는 호출부에서 요청 속성으로 넘김 (POLICY_ID_ATTRIBUTE 등, 없으면 null)
+ * - 기록은 AiRequestLogWriter 버퍼에 넣기만 하고 DB 쓰기는 백그라운드에서
+ */
+@Component
+@RequiredArgsConstructor
+public class AiRequestRecorder implements ExchangeFilterFunction {
+
+    public static final String POLICY_ID_ATTRIBUTE = AiRequestRecorder.class.getName() + ".policyId";
+    public static final String DOCUMENT_ID_ATTRIBUTE = AiRequestRecorder.class.getName() + ".documentId";
+    public static final String USER_ID_ATTRIBUTE = AiRequestRecorder.class.getName() + ".userId";
+
+    private final AiRequestLogWriter aiRequestLogWriter;
+    private final AiRequestLogProperties properties;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String path = request.url().getPath();
+        if (!properties.isEnabled() || properties.getExcludedPaths().contains(path)) {
+            return next.exchange(request);
+        }
+
+        return Mono.defer(() -> {
+            Recording recording = new Recording(request, requestType(path));
+            return next.exchange(request)
+                    .map(response -> {
+                        recording.responded = true;
+                        boolean ok = response.statusCode().is2xxSuccessful();
+                        return response.mutate()
+                                .body(body -> body.doFinally(signal -> recording.finish(
+                                        signal == SignalType.CANCEL ? "CANCELLED"
+                                                : signal == SignalType.ON_COMPLETE && ok ? "SUCCESS"
+                                                : "ERROR")))
+                                .build();
+                    })
+                    .doOnError(e -> recording.finish(
+                            e instanceof AiServerBusyException || e instanceof AiCircuitOpenException
+                                    ? "REJECTED" : "ERROR"))
+                    .doOnCancel(() -> recording.finish(recording.responded ? "CANCELLED" : "TIMEOUT"));
+        });
+    }
+
+    /**
+     * 경로 → request_type (/chatbot → CHATBOT, /summary/batch → SUMMARY_BATCH ...)
+     */
+    private static String requestType(String path) {
+        return switch (path) {
+            case "/chatbot" -> "CHATBOT";
+            case "/chatbot/stream" -> "CHATBOT_STREAM";
+            case "/aiHelper" -> "AI_GUIDE";
+            case "/summary" -> "SUMMARY";
+            case "/summary/batch" -> "SUMMARY_BATCH";
+            case "/change-report" -> "CHANGE_REPORT";
+            default -> {
+                String type = path.replaceFirst("^/", "").replaceAll("[^A-Za-z0-9]+", "_").toUpperCase();
+                yield type.length() > 50 ? type.substring(0, 50) : type;
+            }
+        };
+    }
+
+    /**
+     * 호출 한 건 (기록은 한 번만)
+     */
+    private final class Recording {
+
+        private final ClientRequest request;
+        private final String requestType;
+        private final long startedAt = System.nanoTime();
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile boolean responded;
+
+        Recording(ClientRequest request, String requestType) {
+            this.request = request;
+            this.requestType = requestType;
+        }
+
+        void finish(String status) {
+            if (!done.compareAndSet(false, true)) return;
+            aiRequestLogWriter.record(new AiRequestLogWriter.Entry(
+                    requestType,
+                    longAttribute(USER_ID_ATTRIBUTE),
+                    longAttribute(POLICY_ID_ATTRIBUTE),
+                    longAttribute(DOCUMENT_ID_ATTRIBUTE),
+                    status,
+                    (int) ((System.nanoTime() - startedAt) / 1_000_000),
+                    createdAt
+            ));
+        }
+
+        private Long longAttribute(String name) {
+            return request.attribute(name)
+                    .filter(Long.class::isInstance)
+                    .map(Long.class::cast)
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.circuit-breaker")
+public class AiCircuitBreakerProperties {
+
+    /**
+     * AI 엔드포인트 차단기 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트별로 따로 판단할 경로 (여기 없는 경로는 항상 통과)
+     */
+    private List<String> endpoints = new ArrayList<>(List.of("/chatbot", "/chatbot/stream", "/aiHelper", "/summary", "/summary/batch", "/change-report"));
+
+    /**
+     * 실패율을 계산할 최근 호출 수, 판단에 필요한 최소 호출 수
+     */
+    private int windowSize = 20;
+    private int minimumCalls = 10;
+
+    /**
+     * 최근 호출 중 실패 비율이 이 값 이상이면 차단 (0.0 ~ 1.0)
+     */
+    private double failureRateThreshold = 0.5;
+
+    /**
+     * 차단 후 시험 호출을 보내기까지 기다리는 시간(ms)
+     */
+    private long openDurationMs = 30000;
+
+    /**
+     * 반쯤 열린 상태에서 보내는 시험 호출 수 (전부 성공하면 다시 정상)
+     */
+    private int halfOpenProbes = 2;
+}
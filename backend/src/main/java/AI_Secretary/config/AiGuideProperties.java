@@ -30,4 +30,14 @@ public class AiGuideProperties {
      * 장애 시 기능 일시 비활성화 용
      */
     private boolean enabled = true;
+
+    /**
+     * 신청 도우미 결과 캐시 (DB policy_ai_guide + 메모리 LRU)
+     */
+    private boolean cacheEnabled = true;
+
+    /**
+     * 메모리에 들고 있을 최대 정책 수 (넘으면 가장 오래 안 쓴 정책부터 제거, DB 에는 그대로 남음)
+     */
+    private int cacheMaxSize = 2000;
 }
\ No newline at end of file
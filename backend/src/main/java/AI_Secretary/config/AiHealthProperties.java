@@ -0,0 +1,49 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.health")
+public class AiHealthProperties {
+
+    /**
+     * AI 서버 주기적 헬스 체크 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 헬스 체크 경로 (LLM 을 부르지 않는 가벼운 엔드포인트)
+     */
+    private String path = "/health";
+
+    /**
+     * 체크 주기 / 첫 체크까지 대기(ms) - @Scheduled 에서 ${ai.health.interval-ms} 로 읽음
+     */
+    private long intervalMs = 10000;
+    private long initialDelayMs = 5000;
+
+    /**
+     * 체크 한 번의 타임아웃(ms)
+     */
+    private long timeoutMs = 3000;
+
+    /**
+     * 백분위 계산에 쓰는 최근 성공 응답 수
+     */
+    private int windowSize = 60;
+
+    /**
+     * 연속 실패가 이 횟수에 닿으면 DOWN → AI 엔드포인트 차단기 전부 OPEN
+     */
+    private int downAfterFailures = 3;
+
+    /**
+     * 최근 p95 가 이 값(ms)을 넘으면 DEGRADED
+     */
+    private long slowThresholdMs = 2000;
+}
@@ -0,0 +1,63 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.limiter")
+public class AiLimiterProperties {
+
+    /**
+     * AI 서버 동시 요청 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트별로 따로 제한할 경로 (여기 없는 경로는 제한 없이 통과)
+     */
+    private List<String> endpoints = new ArrayList<>(List.of("/chatbot", "/chatbot/stream", "/aiHelper", "/summary", "/change-report"));
+
+    /**
+     * 따로 한도를 두지 않고 다른 경로의 한도/대기열을 같이 쓸 경로 (경로 → 대상 경로)
+     * /summary/batch 는 서버에서 /summary 와 같은 모델을 돌리므로 /summary 한도 안에서 건수만큼 슬롯을 차지
+     */
+    private Map<String, String> sharedEndpoints = new HashMap<>(Map.of("/summary/batch", "/summary"));
+
+    /**
+     * 동시 요청 한도 시작값 / 하한 / 상한 (응답 시간을 보고 이 범위 안에서 자동 조절)
+     */
+    private int initialLimit = 4;
+    private int minLimit = 1;
+    private int maxLimit = 16;
+
+    /**
+     * 한도를 넘은 요청이 기다릴 수 있는 대기열 크기, 최대 대기 시간(ms)
+     * (대기열이 가득 차거나 대기 시간을 넘기면 바로 거절 → 대체 응답)
+     */
+    private int queueCapacity = 32;
+    private long maxQueueWaitMs = 10000;
+
+    /**
+     * 우선순위 기아 방지: 이 시간(ms)만큼 기다릴 때마다 한 단계 높은 순위로 취급
+     */
+    private long agingMs = 3000;
+
+    /**
+     * 응답 시간이 평균의 몇 배를 넘으면 과부하로 보고 한도를 줄일지
+     */
+    private double latencyTolerance = 2.0;
+
+    /**
+     * 과부하/실패 시 한도에 곱하는 비율 (multiplicative decrease)
+     */
+    private double backoffRatio = 0.9;
+}
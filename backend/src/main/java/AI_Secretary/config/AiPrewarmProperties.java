@@ -0,0 +1,49 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.prewarm")
+public class AiPrewarmProperties {
+
+    /**
+     * 야간 AI 미리 생성(요약, 신청 도우미) 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실행 시각 (기본 04:30, 04:00 추천 배치 이후 / 사용자 적은 시간대)
+     */
+    private String cron = "0 30 4 * * *";
+
+    /**
+     * 한 번에 미리 생성할 정책 수 (인기 순 상위)
+     */
+    private int limit = 200;
+
+    /**
+     * 동시에 처리할 정책 수 (AI 서버를 야간에도 다 쓰지 않게 작게)
+     */
+    private int concurrency = 2;
+
+    /**
+     * 인기 점수 = 최근 조회 수 × viewWeight + 북마크 수 × bookmarkWeight
+     */
+    private double viewWeight = 1.0;
+    private double bookmarkWeight = 3.0;
+
+    /**
+     * 실행 후 조회 수에 곱하는 비율 (낮을수록 최근 조회 위주)
+     */
+    private double viewDecay = 0.5;
+
+    /**
+     * 요약 유효 기간이 이 일수 안에 끝나면 미리 재생성 (낮에 만료돼서 첫 조회가 기다리지 않게)
+     */
+    private int summaryRefreshAheadDays = 1;
+}
@@ -0,0 +1,37 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.request-log")
+public class AiRequestLogProperties {
+
+    /**
+     * AI 서버 호출 기록(ai_request_log) 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기록하지 않을 경로 (주기적 헬스 체크 등)
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/health"));
+
+    /**
+     * 메모리 버퍼 → DB 로 내보내는 주기(ms), 한 번의 JDBC batch 최대 건수
+     */
+    private long flushIntervalMs = 2000;
+    private int batchSize = 500;
+
+    /**
+     * 아직 DB 에 못 쓴 기록을 들고 있을 최대 건수 (넘으면 버림 - 요청 처리를 막지 않는 게 우선)
+     */
+    private int bufferCapacity = 10000;
+}
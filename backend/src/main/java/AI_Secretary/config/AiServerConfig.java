@@ -1,5 +1,8 @@
 package AI_Secretary.config;
 
+import AI_Secretary.client.AiCircuitBreaker;
+import AI_Secretary.client.AiConcurrencyLimiter;
+import AI_Secretary.client.AiRequestRecorder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,11 +24,17 @@ public class AiServerConfig {
     private long timeoutMs;
 
     @Bean
-    public WebClient aiWebClient(WebClient.Builder builder) {
+    public WebClient aiWebClient(WebClient.Builder builder,
+                                 AiRequestRecorder aiRequestRecorder,
+                                 AiCircuitBreaker aiCircuitBreaker,
+                                 AiConcurrencyLimiter aiConcurrencyLimiter) {
         System.out.println("### AI BASE URL = " + aiBaseUrl);
         return builder
                 .baseUrl(aiBaseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .filter(aiRequestRecorder)      // 호출 기록 (가장 바깥: 대기/거절까지 포함한 소요 시간)
+                .filter(aiCircuitBreaker)       // 엔드포인트별 차단기 (바깥쪽: 차단 중이면 슬롯도 안 잡음)
+                .filter(aiConcurrencyLimiter)   // 엔드포인트별 동시 요청 제한
                 .clientConnector(
                         new ReactorClientHttpConnector(
                                 HttpClient.create()
@@ -0,0 +1,40 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.summary")
+public class AiSummaryProperties {
+
+    /**
+     * 요약 요청 묶어 보내기(micro-batch) 사용 여부
+     */
+    private boolean batchEnabled = true;
+
+    /**
+     * 첫 요청이 들어온 뒤 같이 보낼 요청을 모으는 시간(ms)
+     * (이 시간 안에 다른 요청이 없으면 기존 /summary 단건 호출과 같음)
+     */
+    private long batchWindowMs = 10;
+
+    /**
+     * 한 번에 묶을 최대 요청 수 (차면 시간 안 기다리고 바로 전송)
+     */
+    private int batchMaxSize = 8;
+
+    /**
+     * /summary/batch 호출 타임아웃(ms) - 여러 건을 한 번에 처리하므로 단건(30초)보다 길게
+     */
+    private long batchTimeoutMs = 60000;
+
+    /**
+     * AI 서버가 한 묶음 안에서 동시에 모델에 넘기는 최대 건수 (요청에 같이 보냄)
+     * 묶음 호출은 /summary 동시 요청 한도에서 min(묶음 크기, 이 값) 만큼 슬롯을 차지
+     */
+    private int batchServerConcurrency = 4;
+}
@@ -0,0 +1,46 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.chat-cache")
+public class ChatAnswerCacheProperties {
+
+    /**
+     * 챗봇 답변 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 메모리에 들고 있을 최대 질문 수 (넘으면 가장 오래 안 쓴 질문부터 제거)
+     */
+    private int maxSize = 5000;
+
+    /**
+     * 답변 유지 시간(분) - 정책 문서(벡터스토어)가 바뀌어도 이 시간이 지나면 새로 생성
+     */
+    private long ttlMinutes = 360;
+
+    /**
+     * 정규화한 질문끼리 자모 shingle 유사도(Jaccard)가 이 값 이상이면 같은 질문으로 봄
+     * (낮출수록 적중률 ↑, 다른 질문에 엉뚱한 답이 나갈 위험 ↑)
+     */
+    private double similarityThreshold = 0.8;
+
+    /**
+     * shingle 길이 (자모 개수, 3자모 ≒ 한 음절)
+     */
+    private int shingleSize = 3;
+
+    /**
+     * MinHash/LSH: bands × rows = 해시 함수 개수
+     * 유사도 s 인 두 질문이 후보로 잡힐 확률 = 1 - (1 - s^rows)^bands
+     */
+    private int lshBands = 16;
+    private int lshRows = 4;
+}
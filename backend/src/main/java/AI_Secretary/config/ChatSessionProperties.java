@@ -0,0 +1,43 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.chat-session")
+public class ChatSessionProperties {
+
+    /**
+     * 사용자별 챗봇 대화 이어가기 사용 여부 (false 면 매 질문 독립)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 사용자당 기억할 최근 대화 턴 수 (넘으면 가장 오래된 턴부터 덮어씀)
+     */
+    private int maxTurns = 6;
+
+    /**
+     * 메모리에 들고 있을 최대 사용자 수 (넘으면 가장 오래 안 쓴 대화부터 제거)
+     */
+    private int maxSessions = 10000;
+
+    /**
+     * 이 시간(분) 동안 질문이 없으면 대화 삭제
+     */
+    private long idleTimeoutMinutes = 30;
+
+    /**
+     * 한 턴에 저장할 질문/답변 최대 글자 수 (긴 답변은 앞부분만 기억)
+     */
+    private int maxTurnChars = 1000;
+
+    /**
+     * LLM 에 보낼 이전 대화 + 이번 질문의 토큰 예산 (최근 턴부터 예산 안에 들어가는 만큼만)
+     */
+    private int contextTokenBudget = 1024;
+}
@@ -0,0 +1,39 @@
+package AI_Secretary.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PolicyDetailExecutorConfig {
+
+    /**
+     * 정책 상세 조회 fan-out 전용 풀
+     * - 대부분 AI 서버 응답을 기다리는 블로킹 작업이라 공용 ForkJoinPool 대신 크기가 정해진 별도 풀 사용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService policyDetailExecutor(PolicyDetailProperties properties) {
+        int threads = Math.max(1, properties.getExecutorThreads());
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getExecutorQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "policy-detail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "policy.detail")
+public class PolicyDetailProperties {
+
+    /**
+     * 정책 상세의 AI 호출(요약, 신청 도우미) 공통 마감 시간(ms)
+     * - 요청 시작부터 재며, 넘기면 해당 항목은 이전 요약 / 빈 가이드로 채워서 응답
+     */
+    private long aiDeadlineMs = 20000;
+
+    /**
+     * 상세 조회 병렬 작업용 스레드 수, 대기열 크기
+     * (대기열까지 차면 호출 스레드에서 직접 실행 → 순차 처리로 자연스럽게 후퇴)
+     */
+    private int executorThreads = 16;
+    private int executorQueueCapacity = 256;
+
+    /**
+     * AI 요약 유효 기간(일). 마지막 요약(summarized_at)부터 잼
+     */
+    private int summaryTtlDays = 7;
+
+    /**
+     * true: 유효 기간 지난 요약도 일단 바로 응답하고 재생성은 백그라운드로 (stale-while-revalidate)
+     * false: 예전처럼 요청 안에서 재생성 (공통 AI 마감까지 대기)
+     */
+    private boolean summaryStaleWhileRevalidate = true;
+
+    /**
+     * 백그라운드 요약 재생성 스레드 수, 대기열 크기 (가득 차면 그 요청은 건너뜀)
+     */
+    private int summaryRefreshThreads = 2;
+    private int summaryRefreshQueueCapacity = 64;
+}
@@ -0,0 +1,50 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "policy.search")
+public class PolicySearchProperties {
+
+    /**
+     * 인메모리 검색 인덱스 사용 여부 (문제 생기면 false → 기존 LIKE 쿼리)
+     */
+    private boolean indexEnabled = true;
+
+    /**
+     * lastModifiedAt 기준 증분 동기화 주기(ms)
+     */
+    private long syncIntervalMs = 60000;
+
+    /**
+     * 검색 벤치마크 한 번에 뽑는 결과 건수 (검색 API 페이지 깊이는 커서 오프셋만큼 늘어나고 pageSize 만 제한)
+     */
+    private int maxResults = 100;
+
+    /**
+     * 목록/검색 페이지 크기 기본값, 최대값
+     */
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+
+    /**
+     * 자동완성 항목 수 기본값, 최대값
+     */
+    private int defaultSuggestSize = 8;
+    private int maxSuggestSize = 20;
+
+    public int clampPageSize(Integer size) {
+        if (size == null || size <= 0) return defaultPageSize;
+        return Math.min(size, maxPageSize);
+    }
+
+    public int clampSuggestSize(Integer size) {
+        if (size == null || size <= 0) return defaultSuggestSize;
+        return Math.min(size, maxSuggestSize);
+    }
+}
@@ -0,0 +1,61 @@
+package AI_Secretary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "policy.recommendation")
+public class RecommendationProperties {
+
+    /**
+     * 사용자별 추천 결과 캐시 사용 여부
+     */
+    private boolean cacheEnabled = true;
+
+    /**
+     * 캐시에 담아둘 최대 사용자 수 (넘으면 가장 오래 안 쓴 사용자부터 제거)
+     */
+    private int cacheMaxSize = 10000;
+
+    /**
+     * 사용자당 미리 계산해 두는 추천 개수 (홈 5개, 추천 목록 10개 요청을 한 번에 커버)
+     */
+    private int cachedLimit = 20;
+
+    /**
+     * 야간 배치 추천 미리 계산 사용 여부
+     */
+    private boolean materializeEnabled = true;
+
+    /**
+     * 배치에서 한 번에 읽고 쓰는 사용자 수
+     */
+    private int batchChunkSize = 500;
+
+    /**
+     * 배치 점수 계산 병렬도
+     */
+    private int batchParallelism = 4;
+
+    /**
+     * 미리 계산한 결과를 믿고 쓰는 최대 시간 (배치가 하루 빠져도 버틸 정도)
+     */
+    private int materializedMaxAgeHours = 36;
+
+    /**
+     * 가중합 점수 엔진 사용 여부 (false 면 선호 카테고리 + 마감일 순)
+     */
+    private boolean scoringEnabled = true;
+
+    /**
+     * 신호별 가중치 (category, region, deadline, lifecycle, popularity). 없으면 신호 기본값, 0 이면 끔
+     */
+    private Map<String, Double> signalWeights = new HashMap<>();
+}
@@ -39,6 +39,7 @@ public class SecurityConfig {
 
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        config.addExposedHeader("X-Next-Cursor");   // 목록/검색 페이지네이션 커서
 
         source.registerCorsConfiguration("/**", config);
         return new CorsFilter(source);
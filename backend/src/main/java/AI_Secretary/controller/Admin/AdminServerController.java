@@ -1,9 +1,14 @@
 package AI_Secretary.controller.Admin;
 
 
+import AI_Secretary.DTO.AdminDTO.AiCircuitStatsResponse;
+import AI_Secretary.DTO.AdminDTO.AiLimiterStatsResponse;
+import AI_Secretary.DTO.AdminDTO.CacheStatsResponse;
+import AI_Secretary.DTO.AdminDTO.SearchBenchmarkResponse;
 import AI_Secretary.DTO.AdminDTO.ServerLogResponse;
 import AI_Secretary.DTO.AdminDTO.ServerMetricsResponse;
 import AI_Secretary.service.Admin.AdminServerMonitoringService;
+import AI_Secretary.service.Admin.PolicySearchBenchmarkService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,12 +16,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin/server")
 @RequiredArgsConstructor
 public class AdminServerController {
 
     private final AdminServerMonitoringService service;
+    private final PolicySearchBenchmarkService searchBenchmarkService;
 
     @GetMapping("/metrics")
     public ResponseEntity<ServerMetricsResponse> getMetrics() {
@@ -29,4 +37,31 @@ public class AdminServerController {
     ) {
         return ResponseEntity.ok(service.getLogs(level));
     }
+
+    // 인메모리 캐시 적중률 (hit/miss)
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(service.getCacheStats());
+    }
+
+    // AI 서버 엔드포인트별 동시 요청 한도 / 대기열 / 거절 수
+    @GetMapping("/ai-limiter")
+    public ResponseEntity<List<AiLimiterStatsResponse>> getAiLimiterStats() {
+        return ResponseEntity.ok(service.getAiLimiterStats());
+    }
+
+    // AI 서버 엔드포인트별 차단기 상태 (CLOSED / OPEN / HALF_OPEN)
+    @GetMapping("/ai-circuits")
+    public ResponseEntity<List<AiCircuitStatsResponse>> getAiCircuitStats() {
+        return ResponseEntity.ok(service.getAiCircuitStats());
+    }
+
+    // 검색 방식별(LIKE / 인덱스 / 오타 허용) 응답시간 비교
+    @GetMapping("/search-benchmark")
+    public ResponseEntity<SearchBenchmarkResponse> searchBenchmark(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int iterations
+    ) {
+        return ResponseEntity.ok(searchBenchmarkService.run(keyword, iterations));
+    }
 }
\ No newline at end of file
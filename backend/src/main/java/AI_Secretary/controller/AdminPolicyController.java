@@ -3,6 +3,7 @@ package AI_Secretary.controller;
 import AI_Secretary.DTO.AdminDTO.AdminPolicyDetailDto;
 import AI_Secretary.DTO.AdminDTO.AdminPolicySummaryDto;
 import AI_Secretary.DTO.AdminDTO.AdminPolicyUpdateRequest;
+import AI_Secretary.DTO.SearchDTO.CursorPage;
 import AI_Secretary.service.Admin.AdminPolicyManagementService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,16 +20,25 @@ public class AdminPolicyController {
     private final AdminPolicyManagementService adminPolicyManagementService;
 
     /**
-     * 관리자 - 정책 목록 (키워드 검색)
+     * 관리자 - 정책 목록 (키워드 검색, 키셋 페이지네이션)
      *  GET /api/admin/policies
-     *  GET /api/admin/policies?keyword=일자리
+     *  GET /api/admin/policies?keyword=일자리&size=50
+     *  GET /api/admin/policies?cursor={X-Next-Cursor 헤더 값}
      */
     @GetMapping
     public ResponseEntity<List<AdminPolicySummaryDto>> getPolicyList(
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") Integer size
     ) {
-        var list = adminPolicyManagementService.getPolicyList(keyword);
-        return ResponseEntity.ok(list);
+        CursorPage<AdminPolicySummaryDto> page =
+                adminPolicyManagementService.getPolicyList(keyword, cursor, size);
+
+        var builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(CursorPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.items());
     }
 
     /**
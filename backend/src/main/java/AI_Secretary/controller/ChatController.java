@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/v1/chat")
@@ -19,12 +20,12 @@ public class ChatController {
     private final ChatService chatService;
 
     @PostMapping("/ask")
-    public ResponseEntity<ChatResponse> askWelfare(
+    public Mono<ResponseEntity<ChatResponse>> askWelfare(
             // @AuthenticationPrincipal CustomUserPrincipal user,
             @RequestBody @Valid ChatRequest request
     ) {
         // Long userId = user.getId(); // 프로젝트 보안 설정에 맞게 수정
-        ChatResponse response = chatService.chat(request/*, userId*/);
-        return ResponseEntity.ok(response);
+        return chatService.chat(request, null)
+                .map(ResponseEntity::ok);
     }
 }
\ No newline at end of file
@@ -2,14 +2,22 @@ package AI_Secretary.controller.Home;
 
 import AI_Secretary.DTO.AiDTO.ChatRequest;
 import AI_Secretary.DTO.AiDTO.ChatResponse;
+import AI_Secretary.DTO.AiDTO.ChatStreamChunk;
+import AI_Secretary.Security.CustomUserDetails;
 import AI_Secretary.service.Ai.ChatService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/v1/chat")
@@ -18,13 +26,44 @@ public class ChatController {
 
     private final ChatService chatService;
 
+    /**
+     * 로그인 사용자는 이전 대화를 이어서 질문 (비로그인은 매 질문 독립)
+     */
     @PostMapping("/chatbot")
-    public ResponseEntity<ChatResponse> askWelfare(
-            // @AuthenticationPrincipal CustomUserPrincipal user,
+    public Mono<ResponseEntity<ChatResponse>> askWelfare(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody @Valid ChatRequest request
     ) {
-        // Long userId = user.getId(); // 프로젝트 보안 설정에 맞게 수정
-        ChatResponse response = chatService.chat(request/*, userId*/);
-        return ResponseEntity.ok(response);
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        // Mono 반환 → 서블릿 비동기 처리, LLM 응답을 기다리는 동안 Tomcat 스레드 반납
+        return chatService.chat(request, userId)
+                .map(ResponseEntity::ok);
     }
-}
\ No newline at end of file
+
+    /**
+     * 답변 스트리밍 (text/event-stream)
+     * event: token → data.token 을 이어 붙임 / done → 끝 / error → data.token 안내 문구로 대체
+     * - 클라이언트가 연결을 끊으면 AI 서버 호출도 취소
+     */
+    @PostMapping(value = "/chatbot/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatStreamChunk>> askWelfareStream(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody @Valid ChatRequest request
+    ) {
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        return chatService.chatStream(request, userId);
+    }
+
+    /**
+     * 새 대화 시작 (이전 대화 기록 삭제)
+     */
+    @DeleteMapping("/session")
+    public ResponseEntity<Void> resetSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        if (userDetails != null) {
+            chatService.resetSession(userDetails.getUserId());
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,16 +1,27 @@
 package AI_Secretary.controller.Home;
 
 import AI_Secretary.DTO.AiDTO.AiGuideResponse;
+import AI_Secretary.DTO.SearchDTO.CursorPage;
 import AI_Secretary.DTO.SearchDTO.PolicyDetailResponse;
+import AI_Secretary.DTO.SearchDTO.PolicyFacetedSearchResponse;
+import AI_Secretary.DTO.SearchDTO.PolicySuggestionDto;
+import AI_Secretary.DTO.SearchDTO.PolicySummaryDto;
 import AI_Secretary.Security.CustomUserDetails;
 import AI_Secretary.domain.user.UserProfile;
 import AI_Secretary.repository.User.UserProfileRepository;
 import AI_Secretary.service.Ai.AiGuideService;
 import AI_Secretary.service.Menu.PolicyQueryService;
+import AI_Secretary.service.Search.PolicyFacet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/policies")
@@ -41,30 +52,73 @@ public class PolicyController {
         return ResponseEntity.ok(policies);
     }
 
-    // 검색바용
+    // 검색바용 (다음 페이지 커서는 X-Next-Cursor 헤더)
+    // fuzzy=true(기본): 정확히 맞는 정책이 없으면 오타를 감안한 결과를 대신 반환
     @GetMapping("/search")
     public ResponseEntity<?> search(
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "true") boolean fuzzy
     ) {
-        var list = policyQueryService.searchPolicies(keyword);
-        return ResponseEntity.ok(list);
+        CursorPage<PolicySummaryDto> page = policyQueryService.searchPolicies(keyword, cursor, size, fuzzy);
+        return withNextCursor(page);
     }
 
-    //상세 내용 출력
+    // 검색 결과 + 패싯(카테고리/지역/지원주기/온라인신청) 건수, 선택한 패싯 값으로 필터링
+    // 기동 직후 인덱스 빌드 중이면 503 (잠시 후 재시도)
+    @GetMapping("/search/facets")
+    public ResponseEntity<PolicyFacetedSearchResponse> searchWithFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String regionCtpv,
+            @RequestParam(required = false) String regionSgg,
+            @RequestParam(required = false) String supportCycle,
+            @RequestParam(required = false) String onapPossible,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Map<PolicyFacet, String> filters = new EnumMap<>(PolicyFacet.class);
+        filters.put(PolicyFacet.CATEGORY, category);
+        filters.put(PolicyFacet.REGION_CTPV, regionCtpv);
+        filters.put(PolicyFacet.REGION_SGG, regionSgg);
+        filters.put(PolicyFacet.SUPPORT_CYCLE, supportCycle);
+        filters.put(PolicyFacet.ONAP_POSSIBLE, onapPossible);
+        return ResponseEntity.ok(policyQueryService.searchPoliciesWithFacets(keyword, filters, cursor, size));
+    }
+
+    // 검색바 자동완성 (정책명 / 카테고리 / 부서, 인기순)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PolicySuggestionDto>> suggest(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(policyQueryService.suggestPolicies(keyword, limit));
+    }
+
+    //상세 내용 출력 (CompletableFuture 반환 → AI 마감을 기다리는 동안 Tomcat 스레드 반납)
     @GetMapping("/{policyId}")
-    public PolicyDetailResponse getPolicyDetail(
+    public CompletableFuture<PolicyDetailResponse> getPolicyDetail(
             @PathVariable Long policyId,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long userId = userDetails != null ? userDetails.getUserId() : null;
         return policyQueryService.getPolicyDetail(policyId, userId);
     }
-    //ai 신청 도우미
+    //ai 신청 도우미 (Mono 반환 → LLM 응답을 기다리는 동안 Tomcat 스레드 반납)
     @GetMapping("/{policyId}/ai-result")
-    public ResponseEntity<AiGuideResponse> getAiResult(
+    public Mono<ResponseEntity<AiGuideResponse>> getAiResult(
             @PathVariable Long policyId
     ) {
-        AiGuideResponse res = aiGuideService.getAiGuideForPolicy(policyId);
-        return ResponseEntity.ok(res);
+        return aiGuideService.getAiGuideForPolicyAsync(policyId)
+                .map(ResponseEntity::ok);
+    }
+
+    private <T> ResponseEntity<List<T>> withNextCursor(CursorPage<T> page) {
+        var builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(CursorPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.items());
     }
 }
\ No newline at end of file
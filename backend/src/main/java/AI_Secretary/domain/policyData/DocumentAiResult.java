@@ -4,6 +4,8 @@ import AI_Secretary.domain.publicImplement.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -32,7 +34,12 @@ public class DocumentAiResult extends BaseTimeEntity {
     @Column(name = "qa_template_json", columnDefinition = "TEXT")
     private String qaTemplateJson;
 
+    // 요약 마지막 생성 시각 (같은 문장으로 다시 요약돼도 갱신 → updated_at 과 달리 요약 TTL 기준으로 씀)
+    @Column(name = "summarized_at")
+    private LocalDateTime summarizedAt;
+
     public void updateSummary(String summaryText) {
         this.summaryText = summaryText;
+        this.summarizedAt = LocalDateTime.now();
     }
 }
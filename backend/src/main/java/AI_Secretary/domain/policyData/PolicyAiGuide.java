@@ -0,0 +1,51 @@
+package AI_Secretary.domain.policyData;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * /aiHelper 신청 도우미 결과 캐시
+ * - 정책당 한 행, 생성에 쓴 입력(정책명/요약/대상/쉬운 설명)의 해시를 같이 저장
+ * - 입력 해시가 달라졌을 때만 다시 생성해서 덮어씀
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "policy_ai_guide")
+public class PolicyAiGuide {
+
+    @Id
+    @Column(name = "policy_id")
+    private Long policyId;
+
+    @Column(name = "input_hash", nullable = false, length = 64)
+    private String inputHash;   // SHA-256 hex
+
+    @Column(name = "who_text", columnDefinition = "TEXT")
+    private String who;
+
+    @Column(name = "when_text", columnDefinition = "TEXT")
+    private String when;
+
+    @Column(name = "where_text", columnDefinition = "TEXT")
+    private String where;
+
+    @Column(name = "what_text", columnDefinition = "TEXT")
+    private String what;
+
+    @Column(name = "how_text", columnDefinition = "TEXT")
+    private String how;
+
+    @Column(name = "why_text", columnDefinition = "TEXT")
+    private String why;
+
+    @Column(name = "keywords_json", columnDefinition = "TEXT")
+    private String keywordsJson;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+}
@@ -21,6 +21,10 @@ import AI_Secretary.domain.categories;
         name = "policy_data",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uq_policy_source", columnNames = {"provider_type", "external_id"})
+        },
+        indexes = {
+                // 목록/검색 키셋 페이지네이션용
+                @Index(name = "idx_policy_modified_id", columnList = "last_modified_at, id")
         }
 )
 public class PolicyData extends BaseTimeEntity {
@@ -57,6 +57,11 @@ public class UserProfile {
     @Column(name = "onboarding_completed", nullable = false)
     private Boolean onboardingCompleted = false;
 
+    // 추천 입력값(프로필/관심사) 변경 횟수 (추천 배치가 계산 도중 바뀐 사용자의 옛 결과를 쓰지 않게)
+    // RecommendationBatchService 가 JDBC 로만 올림 → JPA 에서는 읽기 전용
+    @Column(name = "preference_version", insertable = false, updatable = false)
+    private Long preferenceVersion;
+
     // 메서드
     public void markOnboardingCompleted() {
         this.onboardingCompleted = true;
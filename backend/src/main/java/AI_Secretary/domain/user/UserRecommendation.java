@@ -0,0 +1,47 @@
+package AI_Secretary.domain.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 야간 배치로 미리 계산한 사용자별 추천 결과
+ * - 사용자당 한 행, 정책 id 를 추천 순서대로 콤마로 이어서 보관 (PK 조회 한 번으로 끝)
+ * - 프로필/관심사가 바뀌면 행을 지우고 다음 배치까지는 요청 시 계산
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_recommendation")
+public class UserRecommendation {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "policy_ids", nullable = false, length = 1000)
+    private String policyIds;   // ex) "12,5,33"
+
+    // 후보가 계산 개수보다 적어서 전부 담겨 있음 → 더 많이 요청해도 그대로 사용
+    @Column(nullable = false)
+    private Boolean complete;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public List<Long> policyIdList() {
+        if (policyIds == null || policyIds.isBlank()) return List.of();
+        return Arrays.stream(policyIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public boolean covers(int limit) {
+        return Boolean.TRUE.equals(complete) || policyIdList().size() >= limit;
+    }
+}
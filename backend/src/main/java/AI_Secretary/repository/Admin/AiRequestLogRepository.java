@@ -0,0 +1,14 @@
+package AI_Secretary.repository.Admin;
+
+import AI_Secretary.domain.adminDomains.AiRequestLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AiRequestLogRepository extends JpaRepository<AiRequestLog, Long> {
+
+    // 오늘 AI 호출 수 계산용 (대시보드)
+    long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+}
@@ -4,6 +4,7 @@ import AI_Secretary.domain.user.UserInterests;
 import AI_Secretary.domain.user.UserInterestsId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserInterestsRepository extends JpaRepository<UserInterests, UserInterestsId> {
@@ -11,6 +12,8 @@ public interface UserInterestsRepository extends JpaRepository<UserInterests, Us
     // user 필드의 id를 기준으로 조회
     List<UserInterests> findByUser_Id(Long userId);
 
+    // 배치용: 여러 사용자 관심사를 한 번에 (카테고리 코드는 복합키에서 바로 꺼내 씀)
+    List<UserInterests> findById_UserIdIn(Collection<Long> userIds);
 
     void deleteByUserId(Long userId);
-}
\ No newline at end of file
+}
@@ -1,8 +1,13 @@
 package AI_Secretary.repository.User;
 
 import AI_Secretary.domain.user.UserProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface UserProfileRepository extends JpaRepository<UserProfile,Long> {
 
+    // 배치용: user_id 순으로 lastId 다음부터 한 청크씩
+    List<UserProfile> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
 }
@@ -0,0 +1,7 @@
+package AI_Secretary.repository.User;
+
+import AI_Secretary.domain.user.UserRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRecommendationRepository extends JpaRepository<UserRecommendation, Long> {
+}
@@ -0,0 +1,7 @@
+package AI_Secretary.repository.search;
+
+import AI_Secretary.domain.policyData.PolicyAiGuide;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PolicyAiGuideRepository extends JpaRepository<PolicyAiGuide, Long> {
+}
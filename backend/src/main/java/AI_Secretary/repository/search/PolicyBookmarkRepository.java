@@ -2,6 +2,7 @@ package AI_Secretary.repository.search;
 
 import AI_Secretary.domain.subMenus.Bookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -13,4 +14,17 @@ public interface PolicyBookmarkRepository extends JpaRepository<Bookmark,Long> {
     boolean existsByUserIdAndPolicyId(Long userId, Long policyId);
 
     void deleteByUser_IdAndPolicy_Id(Long userId, Long policyId);
+
+    // 정책별 북마크 수 (자동완성 인기도 정렬용)
+    @Query("""
+        select b.policy.id as policyId, count(b) as bookmarkCount
+        from Bookmark b
+        group by b.policy.id
+        """)
+    List<PolicyBookmarkCount> countGroupByPolicy();
+
+    interface PolicyBookmarkCount {
+        Long getPolicyId();
+        Long getBookmarkCount();
+    }
 }
@@ -0,0 +1,32 @@
+package AI_Secretary.repository.search;
+
+import AI_Secretary.domain.policyData.PolicyCategory;
+import AI_Secretary.domain.policyData.PolicyCategoryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PolicyCategoryRepository extends JpaRepository<PolicyCategory, PolicyCategoryId> {
+
+    // 추천 점수용: 정책별 카테고리 코드 전체 (mainCategory 외 다대다 카테고리 포함)
+    @Query("""
+        select pc.id.policyId as policyId, pc.id.categoryCode as categoryCode
+        from PolicyCategory pc
+        """)
+    List<PolicyCategoryCode> findAllCodes();
+
+    @Query("""
+        select pc.id.policyId as policyId, pc.id.categoryCode as categoryCode
+        from PolicyCategory pc
+        where pc.id.policyId in :policyIds
+        """)
+    List<PolicyCategoryCode> findCodesByPolicyIdIn(@Param("policyIds") Collection<Long> policyIds);
+
+    interface PolicyCategoryCode {
+        Long getPolicyId();
+        String getCategoryCode();
+    }
+}
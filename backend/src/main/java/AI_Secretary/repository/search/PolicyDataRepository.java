@@ -1,12 +1,17 @@
 package AI_Secretary.repository.search;
 
 
+import AI_Secretary.DTO.SearchDTO.PageCursor;
+import AI_Secretary.Exceptions.InvalidPageCursorException;
 import AI_Secretary.domain.policyData.PolicyData;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -50,4 +55,108 @@ public interface PolicyDataRepository extends JpaRepository<PolicyData, Long> {
         where p.lastModifiedAt >= :since
     """)
     List<PolicyData> findChangedSince(@Param("since") LocalDateTime since);
-}
\ No newline at end of file
+
+    // 인메모리 검색 인덱스 빌드용 (카테고리까지 한 번에)
+    @Query("""
+        select p
+        from PolicyData p
+        left join fetch p.mainCategory mc
+    """)
+    List<PolicyData> findAllWithCategory();
+
+    @Query("""
+        select p
+        from PolicyData p
+        left join fetch p.mainCategory mc
+        where p.lastModifiedAt >= :since
+    """)
+    List<PolicyData> findChangedSinceWithCategory(@Param("since") LocalDateTime since);
+
+    // ------------------------------------------------------------------
+    // 키셋 페이지네이션: lastModifiedAt 있는 구간 (lastModifiedAt desc, id desc) → null 구간 (id desc)
+    //  - 두 구간은 따로 조회 (nulls last / "or is null" 을 섞으면 idx_policy_modified_id 를 못 탐)
+    //  - pageable 은 PageRequest.of(0, size) 로만 사용 (offset 안 씀)
+    // ------------------------------------------------------------------
+    @Query("""
+        select p
+        from PolicyData p
+        left join fetch p.mainCategory mc
+        where (:keyword is null or :keyword = ''
+               or p.name like concat('%', :keyword, '%')
+               or p.summary like concat('%', :keyword, '%'))
+          and p.lastModifiedAt is not null
+        order by p.lastModifiedAt desc, p.id desc
+    """)
+    List<PolicyData> findFirstPage(@Param("keyword") String keyword, Pageable pageable);
+
+    // lastModifiedAt <= :cursorAt 로 인덱스 첫 컬럼 범위를 잡고, 같은 시각이면 id 로 이어감
+    @Query("""
+        select p
+        from PolicyData p
+        left join fetch p.mainCategory mc
+        where (:keyword is null or :keyword = ''
+               or p.name like concat('%', :keyword, '%')
+               or p.summary like concat('%', :keyword, '%'))
+          and p.lastModifiedAt <= :cursorAt
+          and (p.lastModifiedAt < :cursorAt or p.id < :cursorId)
+        order by p.lastModifiedAt desc, p.id desc
+    """)
+    List<PolicyData> findPageAfter(
+            @Param("keyword") String keyword,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("""
+        select p
+        from PolicyData p
+        left join fetch p.mainCategory mc
+        where (:keyword is null or :keyword = ''
+               or p.name like concat('%', :keyword, '%')
+               or p.summary like concat('%', :keyword, '%'))
+          and p.lastModifiedAt is null
+        order by p.id desc
+    """)
+    List<PolicyData> findFirstPageInNullSegment(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("""
+        select p
+        from PolicyData p
+        left join fetch p.mainCategory mc
+        where (:keyword is null or :keyword = ''
+               or p.name like concat('%', :keyword, '%')
+               or p.summary like concat('%', :keyword, '%'))
+          and p.lastModifiedAt is null
+          and p.id < :cursorId
+        order by p.id desc
+    """)
+    List<PolicyData> findPageAfterInNullSegment(
+            @Param("keyword") String keyword,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 커서 위치에 맞는 키셋 쿼리 선택 (날짜 있는 구간이 모자라면 null 구간 앞부분으로 채움)
+     * @param cursor null 이면 첫 페이지, 오프셋 커서면 InvalidPageCursorException (400)
+     */
+    default List<PolicyData> findPage(String keyword, PageCursor cursor, int limit) {
+        if (cursor != null && (cursor.isOffset() || cursor.id() == null)) {
+            throw new InvalidPageCursorException(cursor.encode());
+        }
+        if (cursor != null && cursor.lastModifiedAt() == null) {
+            return findPageAfterInNullSegment(keyword, cursor.id(), PageRequest.of(0, limit));
+        }
+
+        List<PolicyData> rows = cursor == null
+                ? findFirstPage(keyword, PageRequest.of(0, limit))
+                : findPageAfter(keyword, cursor.lastModifiedAt(), cursor.id(), PageRequest.of(0, limit));
+        if (rows.size() >= limit) {
+            return rows;
+        }
+        List<PolicyData> page = new ArrayList<>(rows);
+        page.addAll(findFirstPageInNullSegment(keyword, PageRequest.of(0, limit - rows.size())));
+        return page;
+    }
+}
@@ -3,11 +3,16 @@ package AI_Secretary.service.Admin;
 import AI_Secretary.DTO.AdminDTO.AdminPolicyDetailDto;
 import AI_Secretary.DTO.AdminDTO.AdminPolicySummaryDto;
 import AI_Secretary.DTO.AdminDTO.AdminPolicyUpdateRequest;
+import AI_Secretary.DTO.SearchDTO.CursorPage;
+import AI_Secretary.DTO.SearchDTO.PageCursor;
 import AI_Secretary.Exceptions.PolicyNotFoundException;
+import AI_Secretary.config.PolicySearchProperties;
 import AI_Secretary.domain.policyData.PolicyData;
 import AI_Secretary.domain.subMenus.PolicyChangeReport;
 import AI_Secretary.repository.search.PolicyDataRepository;
+import AI_Secretary.service.Search.PolicyChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,23 +25,31 @@ import java.util.List;
 public class AdminPolicyManagementService {
 
     private final PolicyDataRepository policyDataRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PolicySearchProperties policySearchProperties;
 
     // =========================================================
-    // 1) 목록 조회 (키워드 검색 포함)
+    // 1) 목록 조회 (키워드 검색 포함, 키셋 페이지네이션)
     // =========================================================
     @Transactional(readOnly = true)
-    public List<AdminPolicySummaryDto> getPolicyList(String keyword) {
-        List<PolicyData> list;
-
-        if (keyword == null || keyword.isBlank()) {
-            list = policyDataRepository.findAll();
-        } else {
-            list = policyDataRepository.searchByKeyword(keyword);
+    public CursorPage<AdminPolicySummaryDto> getPolicyList(String keyword, String cursor, Integer size) {
+        int pageSize = policySearchProperties.clampPageSize(size);
+        String kw = (keyword == null || keyword.isBlank()) ? null : keyword;
+
+        List<PolicyData> rows = policyDataRepository.findPage(kw, PageCursor.decode(cursor), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PolicyData> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String next = null;
+        if (hasNext) {
+            PolicyData last = page.get(page.size() - 1);
+            next = PageCursor.keyset(last.getLastModifiedAt(), last.getId()).encode();
         }
 
-        return list.stream()
-                .map(this::toSummaryDto)
-                .toList();
+        return new CursorPage<>(
+                page.stream().map(this::toSummaryDto).toList(),
+                next
+        );
     }
 
     // =========================================================
@@ -106,6 +119,9 @@ public class AdminPolicyManagementService {
         // 마지막 수정 시각 갱신
         p.setLastModifiedAt(LocalDateTime.now());
 
+        // 커밋 후 검색 인덱스 등에 즉시 반영
+        eventPublisher.publishEvent(PolicyChangedEvent.updated(policyId));
+
         return toDetailDto(p);
     }
 
@@ -155,6 +171,7 @@ public class AdminPolicyManagementService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 리포트"));
 
         policyDataRepository.delete(p);
+        eventPublisher.publishEvent(PolicyChangedEvent.deleted(policyId));
     }
 
     // =========================================================
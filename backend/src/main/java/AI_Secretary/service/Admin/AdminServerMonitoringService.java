@@ -1,9 +1,18 @@
 package AI_Secretary.service.Admin;
 
+import AI_Secretary.DTO.AdminDTO.AiCircuitStatsResponse;
+import AI_Secretary.DTO.AdminDTO.AiLimiterStatsResponse;
+import AI_Secretary.DTO.AdminDTO.CacheStatsResponse;
 import AI_Secretary.DTO.AdminDTO.DashboardLogLineDto;
 import AI_Secretary.DTO.AdminDTO.ServerLogResponse;
 import AI_Secretary.DTO.AdminDTO.ServerMetricsResponse;
+import AI_Secretary.client.AiCircuitBreaker;
+import AI_Secretary.client.AiConcurrencyLimiter;
+import AI_Secretary.client.AiHealthProber;
 import AI_Secretary.config.InMemoryLogAppender;
+import AI_Secretary.service.Ai.AiGuideCache;
+import AI_Secretary.service.Ai.ChatAnswerCache;
+import AI_Secretary.service.Menu.RecommendationCache;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import com.zaxxer.hikari.HikariDataSource;
@@ -25,6 +34,12 @@ import java.util.List;
 public class AdminServerMonitoringService {
     private final DataSource dataSource;
     private final RestTemplate restTemplate;
+    private final RecommendationCache recommendationCache;
+    private final AiGuideCache aiGuideCache;
+    private final ChatAnswerCache chatAnswerCache;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
+    private final AiCircuitBreaker aiCircuitBreaker;
+    private final AiHealthProber aiHealthProber;
     private String formatUptime() {
         RuntimeMXBean rb = ManagementFactory.getRuntimeMXBean();
         long ms = rb.getUptime();
@@ -63,7 +78,7 @@ public class AdminServerMonitoringService {
                 formatUptime()
         );
 
-        // 2) AI 서버 (있으면 핑, 없으면 DOWN/UNKNOWN)
+        // 2) AI 서버 (주기적 헬스 체크 결과, 체크 전이면 UNKNOWN)
         var ai = checkAiServer();
 
         // 3) DB 풀 정보
@@ -72,9 +87,29 @@ public class AdminServerMonitoringService {
         return new ServerMetricsResponse(api, ai, db);
     }
     private ServerMetricsResponse.AiStatus checkAiServer() {
-        // 완전 시연용: 150~450ms 사이 랜덤
-        long latency = 150 + (long)(Math.random() * 300);
-        return new ServerMetricsResponse.AiStatus("UP", (int)latency);
+        // 요청마다 AI 서버를 부르지 않고 주기적 헬스 체크 결과를 그대로 사용
+        return aiHealthProber.snapshot();
+    }
+
+    /**
+     * 인메모리 캐시 적중률
+     */
+    public List<CacheStatsResponse> getCacheStats() {
+        return List.of(recommendationCache.stats(), aiGuideCache.stats(), chatAnswerCache.stats());
+    }
+
+    /**
+     * AI 서버 엔드포인트별 동시 요청 한도 / 대기열
+     */
+    public List<AiLimiterStatsResponse> getAiLimiterStats() {
+        return aiConcurrencyLimiter.stats();
+    }
+
+    /**
+     * AI 서버 엔드포인트별 차단기 상태
+     */
+    public List<AiCircuitStatsResponse> getAiCircuitStats() {
+        return aiCircuitBreaker.stats();
     }
 
     public ServerLogResponse getLogs(String level) {
@@ -5,6 +5,7 @@ import AI_Secretary.DTO.AdminDTO.DashboardLogLineDto;
 import AI_Secretary.DTO.AdminDTO.DashboardSummaryResponse;
 import AI_Secretary.domain.policyData.PolicyChangeLog;
 import AI_Secretary.repository.Alarm.PolicyChangeLogRepository;
+import AI_Secretary.repository.Admin.AiRequestLogRepository;
 import AI_Secretary.repository.Alarm.PolicyChangeReportRepository;
 import AI_Secretary.repository.search.PolicyDataRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,8 @@ public class DashboardAdminService {
     private final PolicyDataRepository policyDataRepository;
     private final PolicyChangeLogRepository policyChangeLogRepository;
     private final PolicyChangeReportRepository policyChangeReportRepository;
-    // 🔸 AI 요청수 / 시스템 로그를 DB에 적재하는 구조가 생기면 repo 추가
+    private final AiRequestLogRepository aiRequestLogRepository;
+    // 🔸 시스템 로그를 DB에 적재하는 구조가 생기면 repo 추가
 
     public DashboardSummaryResponse getSummary() {
 
@@ -35,9 +37,11 @@ public class DashboardAdminService {
         long todayReports =
                 policyChangeReportRepository.countByCreatedAtBetween(startOfToday, endOfToday);
 
-        // 서버 상태 / AI 호출 수는 일단 하드코딩 or TODO
+        // 서버 상태는 일단 하드코딩 or TODO
         String serverStatus = "정상";   // 나중에 Actuator/Health 체크로 교체
-        long todayAiApiCalls = 0L;      // 나중에 ai_request_log 등으로 대체
+        // AI 호출 수: ai_request_log (AiRequestRecorder 가 기록, 몇 초 단위로 모아서 쓰므로 직전 호출은 빠질 수 있음)
+        long todayAiApiCalls =
+                aiRequestLogRepository.countByCreatedAtBetween(startOfToday, endOfToday);
 
         // 2) 최근 변경 이력 N개
         List<PolicyChangeLog> recentLogs =
@@ -0,0 +1,64 @@
+package AI_Secretary.service.Admin;
+
+import AI_Secretary.DTO.AdminDTO.SearchBenchmarkResponse;
+import AI_Secretary.config.PolicySearchProperties;
+import AI_Secretary.repository.search.PolicyDataRepository;
+import AI_Secretary.service.Search.PolicySearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+/**
+ * 같은 검색어로 LIKE 쿼리 / 인덱스 검색 / 오타 허용 검색을 번갈아 돌려서 시간 비교
+ * - 첫 1회는 워밍업으로 버림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicySearchBenchmarkService {
+
+    private static final int MAX_ITERATIONS = 50;
+
+    private final PolicyDataRepository policyDataRepository;
+    private final PolicySearchIndex policySearchIndex;
+    private final PolicySearchProperties policySearchProperties;
+
+    @Transactional(readOnly = true)
+    public SearchBenchmarkResponse run(String keyword, int iterations) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("벤치마크할 검색어를 입력해 주세요.");
+        }
+        if (!policySearchIndex.isReady()) {
+            throw new IllegalArgumentException("검색 인덱스가 아직 준비되지 않았습니다.");
+        }
+        int n = Math.max(1, Math.min(iterations, MAX_ITERATIONS));
+        int limit = policySearchProperties.getMaxResults();
+
+        var like = measure(n, () -> policyDataRepository.searchByKeyword(keyword).size());
+        var index = measure(n, () -> policySearchIndex.search(keyword, limit).size());
+        var fuzzy = measure(n, () -> policySearchIndex.searchFuzzy(keyword, limit).size());
+
+        log.info("[SearchBenchmark] keyword={}, like={}us, index={}us, fuzzy={}us",
+                keyword, like.avgMicros(), index.avgMicros(), fuzzy.avgMicros());
+        return new SearchBenchmarkResponse(keyword, n, policySearchIndex.size(), like, index, fuzzy);
+    }
+
+    private SearchBenchmarkResponse.Result measure(int iterations, IntSupplier search) {
+        int hits = search.getAsInt();   // 워밍업
+
+        long[] micros = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            hits = search.getAsInt();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        long avg = Arrays.stream(micros).sum() / iterations;
+        long p95 = micros[Math.min(iterations - 1, (int) Math.ceil(iterations * 0.95) - 1)];
+        return new SearchBenchmarkResponse.Result(hits, avg, p95);
+    }
+}
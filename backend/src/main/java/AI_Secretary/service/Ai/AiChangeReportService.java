@@ -2,9 +2,14 @@ package AI_Secretary.service.Ai;
 
 import AI_Secretary.DTO.AiDTO.AiChangeReportRequest;
 import AI_Secretary.DTO.AiDTO.AiChangeReportResponse;
+import AI_Secretary.Exceptions.AiCircuitOpenException;
+import AI_Secretary.client.AiPriority;
+import AI_Secretary.Exceptions.AiServerBusyException;
 import AI_Secretary.domain.policyData.PolicyChangeLog;
 import AI_Secretary.domain.policyData.PolicyData;
 import AI_Secretary.repository.Alarm.PolicyChangeLogRepository;
+import AI_Secretary.util.ContentHash;
+import AI_Secretary.util.SingleFlight;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -14,6 +19,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 
@@ -25,32 +31,45 @@ public class AiChangeReportService {
     private final WebClient aiWebClient;
     private final PolicyChangeLogRepository changeLogRepository;
     private final ObjectMapper objectMapper;
+    private final SingleFlight<String, AiChangeReportResponse> reportFlights = new SingleFlight<>();
     /**
      * 정책 변경 전/후 스냅샷을 기반으로
      * AI에게 '정책 변경 보고서 초안'을 생성해 달라고 요청
+     * - 같은 정책명 + 같은 전/후 스냅샷으로 동시에 들어온 요청은 한 번만 호출해서 결과 공유
      */
 
+    public Mono<AiChangeReportResponse> generateChangeReportDraftAsync(AiChangeReportRequest request) {
+        String key = ContentHash.sha256Hex(request.policyName() + "\n" + request.beforeSnapshot()
+                + "\n" + request.afterSnapshot());
+        return Mono.fromFuture(() -> reportFlights.executeAsync(key, () -> requestChangeReport(request).toFuture()));
+    }
+
+    /**
+     * 블로킹 버전 (초안 저장까지 한 트랜잭션으로 묶는 PolicyChangeReportService 용)
+     */
     public AiChangeReportResponse generateChangeReportDraft(AiChangeReportRequest request) {
+        return generateChangeReportDraftAsync(request).block();
+    }
 
-        AiChangeReportResponse response = aiWebClient.post()
+    private Mono<AiChangeReportResponse> requestChangeReport(AiChangeReportRequest request) {
+        return aiWebClient.post()
                 .uri("/change-report")   // ⬅ FastAPI에서 맞춰줄 엔드포인트
+                .attribute(AiPriority.ATTRIBUTE, AiPriority.ADMIN)   // 사용자 요청보다 뒤, 백그라운드보다 앞
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(AiChangeReportResponse.class)
-                .block(); // 필요하면 timeout, onErrorResume 등 추가 가능
-
-        if (response == null) {
-            // 완전 실패 시 최소 fallback
-            return new AiChangeReportResponse(
-                    "[자동 생성 실패] 정책 변경 보고서",
-                    "AI 서버와 통신에 실패했습니다. 관리자께서 직접 내용을 입력해 주세요.",
-                    null, null, null, null,
-                    "NEUTRAL",
-                    null, null, null
-            );
-        }
-        return response;
+                // AI 서버가 붐비거나 차단기가 열려서 바로 거절된 경우도 같은 fallback
+                .onErrorResume(e -> e instanceof AiServerBusyException || e instanceof AiCircuitOpenException,
+                        e -> Mono.empty())
+                // 완전 실패 시 최소 fallback
+                .defaultIfEmpty(new AiChangeReportResponse(
+                        "[자동 생성 실패] 정책 변경 보고서",
+                        "AI 서버와 통신에 실패했습니다. 관리자께서 직접 내용을 입력해 주세요.",
+                        null, null, null, null,
+                        "NEUTRAL",
+                        null, null, null
+                ));
     }
     @Transactional
     public PolicyChangeLog createManualLogForDemo(
@@ -0,0 +1,183 @@
+package AI_Secretary.service.Ai;
+
+import AI_Secretary.DTO.AdminDTO.CacheStatsResponse;
+import AI_Secretary.DTO.AiDTO.AiGuideResponse;
+import AI_Secretary.config.AiGuideProperties;
+import AI_Secretary.domain.policyData.PolicyAiGuide;
+import AI_Secretary.repository.search.PolicyAiGuideRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 신청 도우미(/aiHelper) 결과 2단 캐시
+ *
+ * - 1단: 메모리 LRU (policyId → 입력 해시 + 결과)
+ * - 2단: DB policy_ai_guide (재시작해도 유지, 정책당 한 행)
+ * - 키는 policyId + 입력 해시. 정책/문서 내용이 바뀌면 해시가 달라져서 자연스럽게 miss → 재생성 후 덮어씀
+ *   (따로 무효화 이벤트를 받을 필요 없음)
+ * - 실패/빈 응답은 저장하지 않음 (다음 요청에서 다시 시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiGuideCache {
+
+    private final PolicyAiGuideRepository policyAiGuideRepository;
+    private final AiGuideProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private record Entry(String inputHash, AiGuideResponse guide) {}
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > properties.getCacheMaxSize()) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * 같은 입력으로 만든 결과가 있으면 반환, 없으면 null
+     */
+    public AiGuideResponse find(Long policyId, String inputHash) {
+        if (!properties.isCacheEnabled()) return null;
+
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(policyId);
+        }
+        if (cached != null && cached.inputHash().equals(inputHash)) {
+            memoryHits.increment();
+            return cached.guide();
+        }
+
+        PolicyAiGuide row = policyAiGuideRepository.findById(policyId).orElse(null);
+        if (row != null && row.getInputHash().equals(inputHash)) {
+            AiGuideResponse guide = toResponse(row);
+            remember(policyId, inputHash, guide);
+            dbHits.increment();
+            return guide;
+        }
+
+        if (cached != null || row != null) {
+            invalidations.increment();   // 입력이 바뀌어서 옛 결과는 못 씀
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 입력 해시와 상관없이 마지막으로 성공한 결과 (AI 서버 장애/차단 중 대체용), 없으면 null
+     */
+    public AiGuideResponse findLastGood(Long policyId) {
+        if (!properties.isCacheEnabled()) return null;
+
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(policyId);
+        }
+        if (cached != null) {
+            return cached.guide();
+        }
+        return policyAiGuideRepository.findById(policyId)
+                .map(this::toResponse)
+                .orElse(null);
+    }
+
+    public void put(Long policyId, String inputHash, AiGuideResponse guide) {
+        if (!properties.isCacheEnabled()) return;
+
+        remember(policyId, inputHash, guide);
+        try {
+            policyAiGuideRepository.save(PolicyAiGuide.builder()
+                    .policyId(policyId)
+                    .inputHash(inputHash)
+                    .who(guide.who())
+                    .when(guide.when())
+                    .where(guide.where())
+                    .what(guide.what())
+                    .how(guide.how())
+                    .why(guide.why())
+                    .keywordsJson(toJson(guide.keywords()))
+                    .generatedAt(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            // DB 저장 실패해도 응답은 그대로 (메모리에는 남아 있음)
+            log.warn("[AiGuideCache] save failed. policyId={}", policyId, e);
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long h = memoryHits.sum() + dbHits.sum();
+        long m = misses.sum();
+        return new CacheStatsResponse(
+                "aiGuide",
+                size,
+                properties.getCacheMaxSize(),
+                h,
+                m,
+                (h + m) == 0 ? 0.0 : (double) h / (h + m),
+                evictions.sum(),
+                invalidations.sum()
+        );
+    }
+
+    private void remember(Long policyId, String inputHash, AiGuideResponse guide) {
+        synchronized (entries) {
+            entries.put(policyId, new Entry(inputHash, guide));
+        }
+    }
+
+    private AiGuideResponse toResponse(PolicyAiGuide row) {
+        return new AiGuideResponse(
+                row.getWho(),
+                row.getWhen(),
+                row.getWhere(),
+                row.getWhat(),
+                row.getHow(),
+                row.getWhy(),
+                parseKeywords(row.getKeywordsJson())
+        );
+    }
+
+    private String toJson(List<String> keywords) {
+        if (keywords == null) return null;
+        try {
+            return objectMapper.writeValueAsString(keywords);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private List<String> parseKeywords(String json) {
+        if (json == null || json.isBlank()) return null;
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
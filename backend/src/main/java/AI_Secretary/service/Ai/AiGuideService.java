@@ -5,11 +5,15 @@ import AI_Secretary.domain.policyData.DocumentAiResult;
 import AI_Secretary.domain.policyData.PolicyData;
 import AI_Secretary.repository.search.DocumentAiResultRepository;
 import AI_Secretary.repository.search.PolicyDataRepository;
+import AI_Secretary.client.AiPriority;
+import AI_Secretary.client.AiRequestRecorder;
+import AI_Secretary.util.ContentHash;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -18,11 +22,58 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class AiGuideService {
+
+    // 질문 문구(프롬프트)를 바꾸면 같이 올려서 기존 캐시를 전부 재생성
+    private static final String GUIDE_PROMPT_VERSION = "v1";
+
     private final PolicyDataRepository policyDataRepository;
     private final DocumentAiResultRepository documentAiResultRepository;
     private final WebClient aiWebClient;   // AiServerConfig 에서 만든 Bean
+    private final AiGuideCache aiGuideCache;
+    private final PrioritizedFlights<AiGuideResponse> guideFlights = new PrioritizedFlights<>();
+
+    private static final AiGuideResponse EMPTY_GUIDE =
+            new AiGuideResponse(null, null, null, null, null, null, null);
+
+    /**
+     * 캐시 조회까지 끝낸 상태 (cached 가 null 이면 LLM 호출 필요)
+     */
+    private record GuideInput(Long policyId, String question, String inputHash, AiGuideResponse cached,
+                              AiPriority priority) {}
+
+    /**
+     * 신청 도우미 (논블로킹)
+     * - DB 조회/캐시 확인은 boundedElastic 에서, /aiHelper 호출은 WebClient 이벤트 루프에서
+     *   → 응답을 기다리는 동안 요청 스레드를 잡고 있지 않음
+     */
+    public Mono<AiGuideResponse> getAiGuideForPolicyAsync(Long policyId) {
+        return getAiGuideForPolicyAsync(policyId, AiPriority.INTERACTIVE);
+    }
+
+    public Mono<AiGuideResponse> getAiGuideForPolicyAsync(Long policyId, AiPriority priority) {
+        return Mono.fromCallable(() -> prepareGuideInput(policyId, priority))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(input -> {
+                    if (input.cached() != null) {
+                        return Mono.just(input.cached());
+                    }
+                    // 4) FastAPI /aiHelper 호출 (같은 정책·같은 입력으로 동시에 들어온 요청은 한 번만 호출,
+                    //    단 더 낮은 우선순위로 진행 중인 호출에는 합류하지 않음)
+                    return Mono.fromFuture(() -> guideFlights.executeAsync(
+                            input.policyId() + ":" + input.inputHash(),
+                            input.priority(),
+                            () -> requestGuide(input).toFuture()));
+                });
+    }
+
+    /**
+     * 블로킹 버전 (배치/백그라운드 스레드용)
+     */
+    public AiGuideResponse getAiGuideForPolicy(Long policyId, AiPriority priority) {
+        return getAiGuideForPolicyAsync(policyId, priority).block();
+    }
 
-    public AiGuideResponse getAiGuideForPolicy(Long policyId) {
+    private GuideInput prepareGuideInput(Long policyId, AiPriority priority) {
 
         // 1) 정책 기본 정보
         PolicyData policy = policyDataRepository.findById(policyId)
@@ -49,12 +100,19 @@ public class AiGuideService {
 
         String question = sb.toString();
 
-        // 4) FastAPI /aiHelper 호출
+        // 3-1) 같은 입력으로 만든 결과가 있으면 LLM 호출 없이 반환
+        String inputHash = ContentHash.sha256Hex(GUIDE_PROMPT_VERSION + "\n" + question);
+        return new GuideInput(policyId, question, inputHash, aiGuideCache.find(policyId, inputHash), priority);
+    }
+
+    private Mono<AiGuideResponse> requestGuide(GuideInput input) {
         Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("question", question);
+        requestBody.put("question", input.question());
 
-        AiServerResponse serverRes = aiWebClient.post()
+        return aiWebClient.post()
                 .uri("/aiHelper")   // FastAPI 쪽 라우트
+                .attribute(AiPriority.ATTRIBUTE, input.priority())
+                .attribute(AiRequestRecorder.POLICY_ID_ATTRIBUTE, input.policyId())
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(AiServerResponse.class)
@@ -63,24 +121,27 @@ public class AiGuideService {
                     // 실패 시 null 리턴 → FE 에서 "-”로 표시하게 놔두기
                     return Mono.empty();
                 })
-                .block();
-
-        if (serverRes == null || serverRes.guide() == null) {
-            // 최소한 빈 값이라도 채워서 리턴
-            return new AiGuideResponse(null, null, null, null, null, null, null);
-        }
-
-        var g = serverRes.guide();
-
-        return new AiGuideResponse(
-                g.who(),
-                g.when(),
-                g.where(),
-                g.what(),
-                g.how(),
-                g.why(),
-                serverRes.keywords()
-        );
+                .filter(serverRes -> serverRes.guide() != null)
+                .map(serverRes -> {
+                    var g = serverRes.guide();
+                    return new AiGuideResponse(
+                            g.who(),
+                            g.when(),
+                            g.where(),
+                            g.what(),
+                            g.how(),
+                            g.why(),
+                            serverRes.keywords()
+                    );
+                })
+                // 캐시 저장은 DB 쓰기라 이벤트 루프 밖에서
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(guide -> aiGuideCache.put(input.policyId(), input.inputHash(), guide))
+                // 실패/차단 중이면 정책 내용이 바뀌기 전 결과라도 마지막으로 성공한 가이드
+                .switchIfEmpty(Mono.fromCallable(() -> aiGuideCache.findLastGood(input.policyId()))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                // 최소한 빈 값이라도 채워서 리턴
+                .defaultIfEmpty(EMPTY_GUIDE);
     }
 
     //정책 상세보기 AI 요약기능
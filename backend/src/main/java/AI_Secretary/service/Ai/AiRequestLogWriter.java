@@ -0,0 +1,152 @@
+package AI_Secretary.service.Ai;
+
+import AI_Secretary.config.AiRequestLogProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 서버 호출 기록 write-behind 버퍼 → ai_request_log
+ *
+ * - record: lock 없는 큐에 넣기만 함 (요청 처리 스레드는 DB 를 기다리지 않음)
+ * - flush: flushIntervalMs 마다 batchSize 건씩 꺼내서 JDBC batch insert (묶음 단위 트랜잭션)
+ *   제약 위반(삭제된 정책/사용자를 가리키는 FK 등)으로 묶음이 실패하면 한 건씩 다시 넣고,
+ *   그래도 실패하는 건은 user/policy/document 를 비우고 한 번 더 시도 (한 건 때문에 묶음 전체가 버려지지 않게)
+ * - 버퍼가 bufferCapacity 를 넘으면 새 기록은 버림 (DB 장애가 메모리 폭주로 번지지 않게), 종료 시 남은 기록 내보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRequestLogWriter {
+
+    private static final String INSERT_SQL = """
+            insert into ai_request_log
+                (request_type, user_id, target_policy_id, target_document_id, status, latency_ms, created_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AiRequestLogProperties properties;
+
+    private final ConcurrentLinkedQueue<Entry> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 호출 한 건 (requestType: CHATBOT / AI_GUIDE / SUMMARY ..., status: SUCCESS / ERROR / TIMEOUT / REJECTED / CANCELLED)
+     */
+    public record Entry(String requestType, Long userId, Long policyId, Long documentId,
+                        String status, Integer latencyMs, LocalDateTime createdAt) {}
+
+    public void record(Entry entry) {
+        if (!properties.isEnabled()) return;
+        if (buffered.incrementAndGet() > properties.getBufferCapacity()) {
+            buffered.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        buffer.offer(entry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${ai.request-log.flush-interval-ms:2000}",
+            initialDelayString = "${ai.request-log.flush-interval-ms:2000}"
+    )
+    public synchronized void flush() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<Entry> batch = new ArrayList<>(batchSize);
+        Entry entry;
+        while (true) {
+            batch.clear();
+            while (batch.size() < batchSize && (entry = buffer.poll()) != null) {
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) return;
+            buffered.addAndGet(-batch.size());
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("[AiRequestLogWriter] stopped. written={}, dropped={}", written.sum(), dropped.sum());
+    }
+
+    private void write(List<Entry> batch) {
+        try {
+            // 중간에 실패하면 앞에서 들어간 행도 되돌려야 한 건씩 다시 넣을 때 중복이 안 생김
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AiRequestLogWriter::bind));
+            written.add(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[AiRequestLogWriter] batch insert violated a constraint, retrying row by row. size={}, reason={}",
+                    batch.size(), e.getMostSpecificCause().getMessage());
+            batch.forEach(this::writeOne);
+        } catch (DataAccessException e) {
+            // DB 장애 등: 기록 실패가 서비스 장애로 번지지 않게 이번 묶음은 버리고 계속
+            dropped.add(batch.size());
+            log.warn("[AiRequestLogWriter] batch insert failed. size={}", batch.size(), e);
+        }
+    }
+
+    /**
+     * 한 건씩 넣기, 제약 위반이면 FK(user/policy/document)를 비우고 한 번 더
+     */
+    private void writeOne(Entry entry) {
+        try {
+            insert(entry);
+        } catch (DataIntegrityViolationException e) {
+            try {
+                insert(new Entry(entry.requestType(), null, null, null,
+                        entry.status(), entry.latencyMs(), entry.createdAt()));
+            } catch (DataAccessException retry) {
+                dropped.increment();
+                log.warn("[AiRequestLogWriter] insert failed. type={}, reason={}",
+                        entry.requestType(), retry.getMostSpecificCause().getMessage());
+            }
+        } catch (DataAccessException e) {
+            dropped.increment();
+            log.warn("[AiRequestLogWriter] insert failed. type={}, reason={}",
+                    entry.requestType(), e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void insert(Entry entry) {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, entry));
+        written.increment();
+    }
+
+    private static void bind(PreparedStatement ps, Entry e) throws SQLException {
+        ps.setString(1, e.requestType());
+        setLong(ps, 2, e.userId());
+        setLong(ps, 3, e.policyId());
+        setLong(ps, 4, e.documentId());
+        ps.setString(5, e.status());
+        if (e.latencyMs() != null) ps.setInt(6, e.latencyMs()); else ps.setNull(6, Types.INTEGER);
+        ps.setTimestamp(7, Timestamp.valueOf(e.createdAt()));
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) ps.setLong(index, value); else ps.setNull(index, Types.BIGINT);
+    }
+}
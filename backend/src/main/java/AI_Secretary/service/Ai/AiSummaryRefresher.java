@@ -0,0 +1,111 @@
+package AI_Secretary.service.Ai;
+
+import AI_Secretary.client.AiPriority;
+import AI_Secretary.config.PolicyDetailProperties;
+import AI_Secretary.domain.policyData.DocumentAiResult;
+import AI_Secretary.repository.search.DocumentAiResultRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오래된(TTL 지난) AI 요약의 백그라운드 재생성 (stale-while-revalidate)
+ *
+ * - 요청 스레드는 옛 요약을 바로 응답하고 여기에 재생성만 맡김
+ * - 같은 DocumentAiResult 는 동시에 하나만 재생성 (상세를 연달아 열어도 LLM 호출 1번)
+ * - 스레드/대기열 크기가 정해져 있어서, 가득 차면 이번 요청은 버림 (다음 조회 때 다시 등록됨)
+ */
+@Slf4j
+@Component
+public class AiSummaryRefresher {
+
+    private final AiSummaryService aiSummaryService;
+    private final DocumentAiResultRepository documentAiResultRepository;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public AiSummaryRefresher(AiSummaryService aiSummaryService,
+                              DocumentAiResultRepository documentAiResultRepository,
+                              PolicyDetailProperties properties) {
+        this.aiSummaryService = aiSummaryService;
+        this.documentAiResultRepository = documentAiResultRepository;
+
+        int threads = Math.max(1, properties.getSummaryRefreshThreads());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getSummaryRefreshQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "summary-refresh-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param aiResultId  갱신할 document_ai_result id
+     * @param documentId  그 결과의 document id (ai_request_log 기록용)
+     * @param sourceText  요약 원문 (엔티티 LAZY 연관은 호출 스레드에서 미리 풀어서 넘길 것)
+     * @return 이번 호출로 새로 등록됐으면 true (이미 진행 중이거나 대기열이 가득 차면 false)
+     */
+    public boolean refreshAsync(Long aiResultId, Long documentId, String sourceText) {
+        if (aiResultId == null || !inFlight.add(aiResultId)) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh(aiResultId, documentId, sourceText);
+                } finally {
+                    inFlight.remove(aiResultId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(aiResultId);
+            log.debug("[AiSummaryRefresher] queue full. skip aiResultId={}", aiResultId);
+            return false;
+        }
+    }
+
+    /**
+     * 호출 스레드에서 바로 재생성 (야간 미리 생성 배치용, 동시 실행 수는 호출부가 조절)
+     * @return 새 요약을 저장했으면 true (이미 다른 곳에서 재생성 중이거나 요약이 비어 있으면 false)
+     */
+    public boolean refreshNow(Long aiResultId, Long documentId, String sourceText) {
+        if (aiResultId == null || !inFlight.add(aiResultId)) return false;
+        try {
+            return refresh(aiResultId, documentId, sourceText);
+        } finally {
+            inFlight.remove(aiResultId);
+        }
+    }
+
+    private boolean refresh(Long aiResultId, Long documentId, String sourceText) {
+        // 사용자 요청이 밀려 있으면 그 뒤로 (AiPriority.BACKGROUND)
+        String summary = aiSummaryService.summarizeText(sourceText, AiPriority.BACKGROUND, documentId);
+        if (summary == null || summary.isBlank()) {
+            log.warn("[AiSummaryRefresher] empty summary. keep stale one. aiResultId={}", aiResultId);
+            return false;
+        }
+
+        DocumentAiResult result = documentAiResultRepository.findById(aiResultId).orElse(null);
+        if (result == null) return false;   // 그 사이 삭제됨
+        result.updateSummary(summary);
+        documentAiResultRepository.save(result);   // 트랜잭션 밖이라 명시적으로 저장 (summarized_at 갱신)
+        log.info("[AiSummaryRefresher] summary refreshed. aiResultId={}", aiResultId);
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,36 +1,149 @@
 package AI_Secretary.service.Ai;
 
+import AI_Secretary.client.AiConcurrencyLimiter;
+import AI_Secretary.client.AiPriority;
+import AI_Secretary.client.AiRequestRecorder;
+import AI_Secretary.config.AiSummaryProperties;
+import AI_Secretary.util.ContentHash;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiSummaryService {
 
+    private static final ParameterizedTypeReference<List<String>> SUMMARY_LIST = new ParameterizedTypeReference<>() {};
+
     private final WebClient aiWebClient;
+    private final AiSummaryProperties properties;
+    private final PrioritizedFlights<String> summaryFlights = new PrioritizedFlights<>();
+
+    // 우선순위별로 모으는 중인 묶음 (한 묶음 = 한 번의 /summary/batch 호출, 우선순위는 그대로 전달)
+    private final Map<AiPriority, PendingBatch> pending = new EnumMap<>(AiPriority.class);
+
+    private record PendingItem(String text, Long documentId, CompletableFuture<String> result) {}
+
+    private static final class PendingBatch {
+        private final List<PendingItem> items = new ArrayList<>();
+    }
 
     /**
      * FastAPI /summary 엔드포인트 호출
      * 요청: { "question": "..." }
      * 응답: "요약문 문자열"
+     * - 같은 원문으로 동시에 들어온 요청(같은 정책을 여러 명이 동시에 열 때 등)은 한 번만 호출해서 결과 공유
+     *   (단, 더 낮은 우선순위로 진행 중인 호출에는 합류하지 않음)
+     * - batchEnabled 면 batchWindowMs 동안(최대 batchMaxSize 건) 모아서 /summary/batch 한 번으로 보냄
+     * - 실패/타임아웃이면 빈 Mono (FE에서 "-" 처리 등)
+     * - 사용자 요청(정책 상세) 우선순위
+     * - documentId 는 ai_request_log 기록용 (합류한 요청/묶음 호출은 처음 보낸 쪽 기준, 묶음은 null)
      */
-    public String summarizeText(String text) {
+    public Mono<String> summarizeTextAsync(String text, Long documentId) {
+        return summarizeTextAsync(text, AiPriority.INTERACTIVE, documentId);
+    }
+
+    public Mono<String> summarizeTextAsync(String text, AiPriority priority, Long documentId) {
         if (text == null || text.isBlank()) {
-            return null;
+            return Mono.empty();
+        }
+        return Mono.fromFuture(() -> summaryFlights.executeAsync(
+                ContentHash.sha256Hex(text),
+                priority,
+                () -> properties.isBatchEnabled()
+                        ? enqueue(text, priority, documentId)
+                        : requestSummary(text, priority, documentId).toFuture()));
+    }
+
+    /**
+     * 블로킹 버전 (배치/백그라운드 스레드용, 요청 스레드에서는 summarizeTextAsync 사용)
+     */
+    public String summarizeText(String text, AiPriority priority, Long documentId) {
+        return summarizeTextAsync(text, priority, documentId).block();
+    }
+
+    /**
+     * 묶음에 추가. 묶음의 첫 요청이면 batchWindowMs 뒤 전송 예약, batchMaxSize 가 차면 바로 전송
+     */
+    private CompletableFuture<String> enqueue(String text, AiPriority priority, Long documentId) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        PendingBatch full = null;
+        synchronized (pending) {
+            PendingBatch batch = pending.get(priority);
+            if (batch == null) {
+                batch = new PendingBatch();
+                pending.put(priority, batch);
+                PendingBatch scheduled = batch;
+                Schedulers.parallel().schedule(() -> flush(priority, scheduled),
+                        properties.getBatchWindowMs(), TimeUnit.MILLISECONDS);
+            }
+            batch.items.add(new PendingItem(text, documentId, result));
+            if (batch.items.size() >= Math.max(1, properties.getBatchMaxSize())) {
+                pending.remove(priority);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            send(full.items, priority);
+        }
+        return result;
+    }
+
+    /**
+     * 예약 시간이 된 묶음 전송 (그 사이 가득 차서 이미 나간 묶음이면 무시)
+     */
+    private void flush(AiPriority priority, PendingBatch batch) {
+        synchronized (pending) {
+            if (pending.get(priority) != batch) return;
+            pending.remove(priority);
+        }
+        send(batch.items, priority);
+    }
+
+    private void send(List<PendingItem> items, AiPriority priority) {
+        if (items.size() == 1) {
+            PendingItem only = items.get(0);
+            requestSummary(only.text(), priority, only.documentId()).toFuture()
+                    .whenComplete((summary, ex) -> only.result().complete(summary));
+            return;
         }
 
+        List<String> texts = items.stream().map(PendingItem::text).toList();
+        requestSummaryBatch(texts, priority).subscribe(
+                summaries -> {
+                    for (int i = 0; i < items.size(); i++) {
+                        String summary = i < summaries.size() ? summaries.get(i) : null;
+                        items.get(i).result().complete(summary == null || summary.isBlank() ? null : summary);
+                    }
+                },
+                ex -> items.forEach(item -> item.result().complete(null)),
+                () -> items.forEach(item -> item.result().complete(null))
+        );
+    }
+
+    private Mono<String> requestSummary(String text, AiPriority priority, Long documentId) {
         Map<String, Object> requestBody = Map.of(
                 "question", text
         );
 
         return aiWebClient.post()
                 .uri("/summary")
+                .attribute(AiPriority.ATTRIBUTE, priority)
+                .attribute(AiRequestRecorder.DOCUMENT_ID_ATTRIBUTE, documentId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(requestBody)          // { "question": "..." } 전송
                 .retrieve()
@@ -39,7 +152,34 @@ public class AiSummaryService {
                 .onErrorResume(ex -> {
                     // 실패 시 null 리턴 → FE에서 "-" 처리 등
                     return Mono.empty();
-                })
-                .block();
+                });
+    }
+
+    /**
+     * FastAPI /summary/batch 엔드포인트 호출
+     * 요청: { "questions": ["...", "..."], "max_concurrency": 4 }
+     * 응답: ["요약문", "", ...] (요청 순서 그대로, 실패한 건은 빈 문자열)
+     * - 서버에서 동시에 도는 건수만큼 /summary 한도의 슬롯을 차지 (단건 요청과 합쳐서 모델 부하가 한도를 넘지 않게)
+     */
+    private Mono<List<String>> requestSummaryBatch(List<String> texts, AiPriority priority) {
+        int serverConcurrency = Math.max(1, properties.getBatchServerConcurrency());
+        Map<String, Object> requestBody = Map.of(
+                "questions", texts,
+                "max_concurrency", serverConcurrency
+        );
+
+        return aiWebClient.post()
+                .uri("/summary/batch")
+                .attribute(AiPriority.ATTRIBUTE, priority)
+                .attribute(AiConcurrencyLimiter.PERMITS_ATTRIBUTE, Math.min(texts.size(), serverConcurrency))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(SUMMARY_LIST)
+                .timeout(Duration.ofMillis(properties.getBatchTimeoutMs()))
+                .onErrorResume(ex -> {
+                    log.warn("[AiSummaryService] /summary/batch 실패. size={}, reason={}", texts.size(), ex.toString());
+                    return Mono.empty();
+                });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,415 @@
+package AI_Secretary.service.Ai;
+
+import AI_Secretary.DTO.AdminDTO.CacheStatsResponse;
+import AI_Secretary.config.ChatAnswerCacheProperties;
+import AI_Secretary.util.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 챗봇(/chatbot) 답변 캐시 - 비슷한 질문이면 LLM 을 다시 부르지 않고 이전 답변 재사용
+ *
+ * - 질문 정규화: 소문자, 문장부호/공백 제거, 조사·어미("을", "은", "해요", "하나요" ...) 와 군말("좀", "혹시", "알려주세요" ...) 제거
+ * - 질문 의도를 정하는 말은 지우지 않고 대표 의도로 묶어서 키의 "의도" 부분으로 따로 둠
+ *   (어떻게/방법/하는법 → 방법, 자격/대상/조건/기준/누구 → 자격, 얼마/금액 → 금액, 언제/기간 → 언제 ...)
+ *   → "기초연금 신청 방법" / "기초연금 어떻게 신청해요" 둘 다 내용 "기초연금신청" + 의도 {방법}
+ *   → "기초연금 언제 신청해요" / "기초연금 어디서 신청해요" 는 의도가 달라서 서로 다른 질문
+ * - 내용 + 의도가 같으면 바로 적중, 아니면 내용의 자모 shingle MinHash 를 LSH 버킷으로 후보를 찾고
+ *   의도가 똑같고 실제 Jaccard 유사도가 similarityThreshold 이상인 것 중 가장 비슷한(만료 안 된) 답변 사용
+ *   (오타 한두 개 정도는 흡수, 의도가 다른 질문은 글자가 비슷해도 재사용하지 않음)
+ * - 메모리: maxSize 를 넘으면 가장 오래 안 쓴 질문부터 제거 (LRU, 실제로 돌려준 답변만 사용한 것으로 침), ttlMinutes 지나면 만료
+ * - 대체 문구(AI 서버 실패)는 저장하지 않음 → ChatService 에서 걸러서 put
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAnswerCache {
+
+    // 의미 없는 군말만 (의도를 바꾸는 말은 넣지 않음)
+    private static final Set<String> FILLERS = Set.of(
+            "좀", "혹시", "그리고", "제가", "저는", "나는",
+            "알려줘", "알려주세요", "알려", "주세요", "궁금해요", "궁금합니다", "궁금",
+            "해요", "하나요"
+    );
+
+    // 의도 단어 → 대표 의도 (정규화 후 대표 의도 집합이 똑같아야 비슷한 질문으로 인정)
+    private static final Map<String, String> INTENTS = Map.ofEntries(
+            Map.entry("어떻게", "방법"), Map.entry("방법", "방법"), Map.entry("하는방법", "방법"),
+            Map.entry("하는법", "방법"), Map.entry("절차", "방법"),
+            Map.entry("자격", "자격"), Map.entry("대상", "자격"), Map.entry("조건", "자격"),
+            Map.entry("기준", "자격"), Map.entry("누구", "자격"), Map.entry("누가", "자격"),
+            Map.entry("얼마", "금액"), Map.entry("금액", "금액"),
+            Map.entry("언제", "언제"), Map.entry("기간", "언제"),
+            Map.entry("어디", "어디"), Map.entry("어디서", "어디"),
+            Map.entry("뭐", "뭐"), Map.entry("무엇", "뭐"), Map.entry("뭔가요", "뭐"),
+            Map.entry("뭐예요", "뭐"), Map.entry("뭐에요", "뭐"),
+            Map.entry("왜", "왜"), Map.entry("어떤", "어떤"), Map.entry("몇", "몇"),
+            Map.entry("가능", "가능"), Map.entry("서류", "서류")
+    );
+
+    // 길이가 긴 것부터 (한 토큰에서 여러 번 벗겨냄, 남는 글자가 2글자 미만이면 그대로 둠)
+    private static final String[] SUFFIXES = {
+            "하려면", "할까요", "하나요", "합니다", "되나요", "인가요", "한가요", "이에요",
+            "하는", "해야", "해요", "하면", "하기", "예요", "에서", "으로", "에게", "한테", "까지", "부터", "이나",
+            "은", "는", "이", "가", "을", "를", "에", "의", "로", "와", "과", "도", "만", "요"
+    };
+
+    // 붙여 쓴 의도 명사 ("신청방법" → "신청" + "방법", "지원대상" → "지원" + "대상"), 길이가 긴 것부터
+    private static final String[] INTENT_TAILS = {"하는방법", "하는법", "방법", "절차", "대상", "조건", "자격", "기준", "기간", "금액", "서류"};
+
+    private final ChatAnswerCacheProperties properties;
+
+    private final LongAdder exactHits = new LongAdder();
+    private final LongAdder similarHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private long nextId;
+    private final Map<String, Long> idsByNormalized = new HashMap<>();
+    // 버킷에는 Entry 를 바로 담음 (후보를 볼 때 entries.get 으로 LRU 순서를 건드리지 않게)
+    private final Map<Long, Set<Entry>> lshBuckets = new HashMap<>();
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > properties.getMaxSize()) {
+                unlink(eldest.getValue());
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * normalized = 내용 + "|" + 정렬된 대표 의도 (정확 일치용), shingles/bandKeys 는 내용만으로 만듦
+     */
+    private record Key(String normalized, Set<String> intents, int[] shingles, long[] bandKeys) {}
+
+    private record Entry(long id, Key key, String answer, long createdAtMillis) {
+        // LSH 버킷(HashSet)에서 id 로만 비교 (배열 필드 때문에 기본 record equals 는 쓸 수 없음)
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry other && other.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+
+    /**
+     * 같은/비슷한 질문의 답변이 있으면 반환, 없으면 null
+     */
+    public String find(String question) {
+        if (!properties.isEnabled()) return null;
+        Key key = keyOf(question);
+        if (key == null) return null;
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Long exactId = idsByNormalized.get(key.normalized());
+            if (exactId != null) {
+                Entry exact = live(entries.get(exactId), now);
+                if (exact != null) {
+                    exactHits.increment();
+                    return exact.answer();
+                }
+            }
+
+            Set<Entry> candidates = new HashSet<>();
+            for (long bandKey : key.bandKeys()) {
+                Set<Entry> bucket = lshBuckets.get(bandKey);
+                if (bucket != null) candidates.addAll(bucket);
+            }
+
+            // 유사도 순으로 보면서 만료된 후보는 지우고 다음 후보로
+            List<Entry> similar = new ArrayList<>();
+            Map<Entry, Double> similarity = new HashMap<>();
+            for (Entry candidate : candidates) {
+                if (!candidate.key().intents().equals(key.intents())) continue;
+                double sim = jaccard(key.shingles(), candidate.key().shingles());
+                if (sim >= properties.getSimilarityThreshold()) {
+                    similar.add(candidate);
+                    similarity.put(candidate, sim);
+                }
+            }
+            similar.sort((x, y) -> Double.compare(similarity.get(y), similarity.get(x)));
+            for (Entry candidate : similar) {
+                if (live(candidate, now) != null) {
+                    entries.get(candidate.id());   // 돌려주는 답변만 최근 사용으로
+                    similarHits.increment();
+                    return candidate.answer();
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String question, String answer) {
+        if (!properties.isEnabled() || answer == null || answer.isBlank()) return;
+        Key key = keyOf(question);
+        if (key == null) return;
+
+        synchronized (this) {
+            Long previous = idsByNormalized.get(key.normalized());
+            if (previous != null) {
+                Entry old = entries.remove(previous);
+                if (old != null) unlink(old);
+            }
+            Entry entry = new Entry(++nextId, key, answer, System.currentTimeMillis());
+            idsByNormalized.put(key.normalized(), entry.id());
+            for (long bandKey : key.bandKeys()) {
+                lshBuckets.computeIfAbsent(bandKey, k -> new HashSet<>(4)).add(entry);
+            }
+            entries.put(entry.id(), entry);
+        }
+    }
+
+    /**
+     * 만료된 답변 정리 (조회 때도 지우지만, 다시 안 묻는 질문이 자리만 차지하지 않게)
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void purgeExpired() {
+        if (!properties.isEnabled()) return;
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (this) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (isExpired(entry, now)) {
+                    it.remove();
+                    unlink(entry);
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            expirations.add(removed);
+            log.debug("[ChatAnswerCache] expired {} answers", removed);
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        long h = exactHits.sum() + similarHits.sum();
+        long m = misses.sum();
+        return new CacheStatsResponse(
+                "chatAnswer",
+                size,
+                properties.getMaxSize(),
+                h,
+                m,
+                (h + m) == 0 ? 0.0 : (double) h / (h + m),
+                evictions.sum(),
+                expirations.sum()
+        );
+    }
+
+    /**
+     * 질문 정규화: 내용 + "|" + 대표 의도 (내용이 비면 캐시 대상 아님 → 빈 문자열)
+     */
+    static String normalize(String question) {
+        Key key = keyParts(question);
+        return key == null ? "" : key.normalized();
+    }
+
+    /**
+     * 정규화된 토큰 (군말 제거, 조사·어미 제거, 붙여 쓴 의도 명사는 떼어냄)
+     */
+    private static List<String> tokens(String question) {
+        if (question == null || question.isBlank()) return List.of();
+        String text = Normalizer.normalize(question, Normalizer.Form.NFC).toLowerCase();
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty() || FILLERS.contains(token)) continue;
+            String stem = INTENTS.containsKey(token) ? token : stripSuffixes(token);
+            if (FILLERS.contains(stem)) continue;
+
+            String tail = intentTail(stem);
+            if (tail != null) {
+                tokens.add(stripSuffixes(stem.substring(0, stem.length() - tail.length())));
+                tokens.add(tail);
+            } else {
+                tokens.add(stem);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 내용(의도 단어를 뺀 나머지)과 대표 의도 집합 (shingle 계산 전)
+     */
+    private static Key keyParts(String question) {
+        StringBuilder content = new StringBuilder();
+        Set<String> intents = new TreeSet<>();
+        for (String token : tokens(question)) {
+            String intent = INTENTS.get(token);
+            if (intent != null) {
+                intents.add(intent);
+            } else {
+                content.append(token);
+            }
+        }
+        if (content.isEmpty()) return null;
+        return new Key(content + "|" + String.join(",", intents), intents, null, null);
+    }
+
+    /**
+     * "신청방법", "신청하는법", "지원대상" 처럼 앞에 2글자 이상 붙은 의도 명사
+     */
+    private static String intentTail(String stem) {
+        for (String tail : INTENT_TAILS) {
+            if (stem.length() - tail.length() >= 2 && stem.endsWith(tail)) {
+                return tail;
+            }
+        }
+        return null;
+    }
+
+    private static String stripSuffixes(String token) {
+        String current = token;
+        boolean stripped = true;
+        while (stripped) {
+            stripped = false;
+            for (String suffix : SUFFIXES) {
+                if (current.length() - suffix.length() >= 2 && current.endsWith(suffix)) {
+                    current = current.substring(0, current.length() - suffix.length());
+                    stripped = true;
+                    break;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Key keyOf(String question) {
+        Key parts = keyParts(question);
+        if (parts == null) return null;
+        String content = parts.normalized().substring(0, parts.normalized().lastIndexOf('|'));
+
+        int[] shingles = shingles(HangulJamo.decompose(content), Math.max(1, properties.getShingleSize()));
+        int bands = Math.max(1, properties.getLshBands());
+        int rows = Math.max(1, properties.getLshRows());
+        long[] signature = minHash(shingles, bands * rows);
+
+        long[] bandKeys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            long h = mix(b + 1L);
+            for (int r = 0; r < rows; r++) {
+                h = mix(h ^ signature[b * rows + r]);
+            }
+            bandKeys[b] = h;
+        }
+        return new Key(parts.normalized(), parts.intents(), shingles, bandKeys);
+    }
+
+    /**
+     * 자모 문자열의 k-shingle 해시 (정렬 + 중복 제거)
+     */
+    private static int[] shingles(String jamo, int k) {
+        if (jamo.length() <= k) {
+            return new int[]{jamo.hashCode()};
+        }
+        int[] hashes = new int[jamo.length() - k + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = jamo.substring(i, i + k).hashCode();
+        }
+        return Arrays.stream(hashes).sorted().distinct().toArray();
+    }
+
+    private static long[] minHash(int[] shingles, int size) {
+        long[] signature = new long[size];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < size; i++) {
+                long h = mix(shingle ^ (0x9E3779B97F4A7C15L * (i + 1)));   // 해시 함수 i 번째 = seed 만 다른 mix
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 64bit 해시 섞기 (splitmix64 finalizer)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * 정렬된 두 shingle 배열의 Jaccard 유사도
+     */
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0, j = 0, common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - common;
+        return union == 0 ? 0.0 : (double) common / union;
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAtMillis() > TimeUnit.MINUTES.toMillis(properties.getTtlMinutes());
+    }
+
+    /**
+     * 만료됐으면 지우고 null (lock 안에서 호출)
+     */
+    private Entry live(Entry entry, long now) {
+        if (entry == null) return null;
+        if (isExpired(entry, now)) {
+            entries.remove(entry.id());
+            unlink(entry);
+            expirations.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 정확 일치 맵 / LSH 버킷에서 제거 (lock 안에서 호출)
+     */
+    private void unlink(Entry entry) {
+        idsByNormalized.remove(entry.key().normalized(), entry.id());
+        for (long bandKey : entry.key().bandKeys()) {
+            Set<Entry> bucket = lshBuckets.get(bandKey);
+            if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+                lshBuckets.remove(bandKey);
+            }
+        }
+    }
+}
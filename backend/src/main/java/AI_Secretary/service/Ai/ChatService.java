@@ -2,10 +2,15 @@ package AI_Secretary.service.Ai;
 
 import AI_Secretary.DTO.AiDTO.ChatRequest;
 import AI_Secretary.DTO.AiDTO.ChatResponse;
+import AI_Secretary.DTO.AiDTO.ChatStreamChunk;
+import AI_Secretary.DTO.AiDTO.ChatTurn;
 import AI_Secretary.DTO.AiDTO.WelfareAnswer;
 import AI_Secretary.client.AiChatbotClient;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -14,13 +19,80 @@ import java.util.List;
 public class ChatService {
 
     private final AiChatbotClient aiChatbotClient;
+    private final ChatAnswerCache chatAnswerCache;
+    private final ChatSessionStore chatSessionStore;
 
-    public ChatResponse chat(ChatRequest request /*, Long userId */) {
+    /**
+     * userId 가 있으면(로그인) 이전 대화를 이어서 질문, null 이면 매 질문 독립
+     */
+    public Mono<ChatResponse> chat(ChatRequest request, Long userId) {
         String question = request.question();
+        List<ChatTurn> history = chatSessionStore.contextWindow(userId, question);
 
-        // FastAPI /chatbot 호출
-        String answer = aiChatbotClient.ask(question);
+        // 같은/비슷한 질문에 이미 답한 적이 있으면 LLM 호출 없이 재사용
+        // (이어지는 질문은 앞 대화에 따라 답이 달라지므로 첫 질문만)
+        String cached = history.isEmpty() ? chatAnswerCache.find(question) : null;
+        if (cached != null) {
+            chatSessionStore.append(userId, question, cached);
+            return Mono.just(toResponse(cached));
+        }
 
+        // FastAPI /chatbot 호출 (응답 올 때까지 요청 스레드를 잡지 않음)
+        return aiChatbotClient.askAsync(question, history, userId)
+                .doOnNext(answer -> remember(userId, question, answer, history.isEmpty()))
+                .map(ChatService::toResponse)
+                .defaultIfEmpty(toResponse(null));
+    }
+
+    /**
+     * 답변을 조각 단위로 흘려보내는 버전 (SSE)
+     * token 이벤트들 → done 이벤트, 중간에 실패하면 error 이벤트(안내 문구) 하나로 끝냄
+     */
+    public Flux<ServerSentEvent<ChatStreamChunk>> chatStream(ChatRequest request, Long userId) {
+        String question = request.question();
+        List<ChatTurn> history = chatSessionStore.contextWindow(userId, question);
+
+        // 캐시 적중이면 답변 전체를 조각 하나로
+        String cached = history.isEmpty() ? chatAnswerCache.find(question) : null;
+        if (cached != null) {
+            chatSessionStore.append(userId, question, cached);
+            return Flux.just(event("token", cached), event("done", ""));
+        }
+
+        // 끝까지 받은 답변만 캐시/대화 기록에 저장 (중간에 끊기거나 실패하면 저장 안 함)
+        StringBuilder answer = new StringBuilder();
+        return aiChatbotClient.askStream(question, history, userId)
+                .doOnNext(answer::append)
+                .map(token -> event("token", token))
+                .concatWith(Mono.fromSupplier(() -> {
+                    remember(userId, question, answer.toString(), history.isEmpty());
+                    return event("done", "");
+                }))
+                .onErrorResume(e -> Mono.just(event("error", AiChatbotClient.FALLBACK_ANSWER)));
+    }
+
+    /**
+     * 대화 새로 시작 (이전 대화 기록 삭제)
+     */
+    public void resetSession(Long userId) {
+        chatSessionStore.clear(userId);
+    }
+
+    private void remember(Long userId, String question, String answer, boolean cacheable) {
+        if (AiChatbotClient.FALLBACK_ANSWER.equals(answer)) return;
+        if (cacheable) {
+            chatAnswerCache.put(question, answer);
+        }
+        chatSessionStore.append(userId, question, answer);
+    }
+
+    private static ServerSentEvent<ChatStreamChunk> event(String name, String token) {
+        return ServerSentEvent.builder(new ChatStreamChunk(token))
+                .event(name)
+                .build();
+    }
+
+    private static ChatResponse toResponse(String answer) {
         // 지금은 일반 자유 챗봇이니까 keyPoints/nextActions 는 비워둔다
         return new ChatResponse(
                 answer,
@@ -28,4 +100,4 @@ public class ChatService {
                 List.of()   // nextActions 없음
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,167 @@
+package AI_Secretary.service.Ai;
+
+import AI_Secretary.DTO.AiDTO.ChatTurn;
+import AI_Secretary.config.ChatSessionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 챗봇 대화 기록 (메모리)
+ *
+ * - 사용자당 최근 maxTurns 턴만 링버퍼로 보관, 턴마다 질문/답변은 maxTurnChars 까지만 저장
+ * - 사용자 수는 maxSessions 까지 (넘으면 가장 오래 안 쓴 대화부터 제거), idleTimeoutMinutes 동안 질문이 없으면 삭제
+ *   → 메모리 상한 ≈ maxSessions × maxTurns × 2 × maxTurnChars
+ * - contextWindow: 최근 턴부터 거꾸로 토큰 예산(contextTokenBudget - 이번 질문) 안에 들어가는 만큼만 골라서
+ *   오래된 순으로 반환 → 대화가 길어져도 프롬프트 길이는 일정
+ * - 비로그인(userId null)은 기록하지 않음 (매 질문 독립)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionStore {
+
+    private final ChatSessionProperties properties;
+
+    private final Map<Long, Session> sessions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Session> eldest) {
+            return size() > properties.getMaxSessions();
+        }
+    };
+
+    /**
+     * 사용자 한 명의 최근 턴 링버퍼 (store lock 안에서만 접근)
+     */
+    private static final class Session {
+
+        private final ChatTurn[] ring;
+        private int next;
+        private int size;
+        private long lastAccessMillis = System.currentTimeMillis();
+
+        Session(int maxTurns) {
+            this.ring = new ChatTurn[Math.max(1, maxTurns)];
+        }
+
+        void add(ChatTurn turn) {
+            ring[next] = turn;
+            next = (next + 1) % ring.length;
+            if (size < ring.length) size++;
+        }
+
+        /**
+         * i = 0 이 가장 최근 턴
+         */
+        ChatTurn recent(int i) {
+            return ring[(next - 1 - i + ring.length) % ring.length];
+        }
+    }
+
+    /**
+     * 이번 질문과 함께 보낼 이전 대화 (오래된 순, 없으면 빈 리스트)
+     */
+    public List<ChatTurn> contextWindow(Long userId, String question) {
+        if (!properties.isEnabled() || userId == null) return List.of();
+
+        int budget = properties.getContextTokenBudget() - estimateTokens(question);
+        List<ChatTurn> window = new ArrayList<>();
+        synchronized (this) {
+            Session session = sessions.get(userId);
+            if (session == null) return List.of();
+            long now = System.currentTimeMillis();
+            if (isIdle(session, now)) {
+                sessions.remove(userId);
+                return List.of();
+            }
+            session.lastAccessMillis = now;
+
+            for (int i = 0; i < session.size; i++) {
+                ChatTurn turn = session.recent(i);
+                budget -= estimateTokens(turn.question()) + estimateTokens(turn.answer());
+                if (budget < 0) break;
+                window.add(turn);
+            }
+        }
+        Collections.reverse(window);
+        return window;
+    }
+
+    public void append(Long userId, String question, String answer) {
+        if (!properties.isEnabled() || userId == null || answer == null || answer.isBlank()) return;
+
+        ChatTurn turn = new ChatTurn(truncate(question), truncate(answer));
+        synchronized (this) {
+            Session session = sessions.get(userId);
+            if (session == null) {
+                session = new Session(properties.getMaxTurns());
+                sessions.put(userId, session);
+            }
+            session.add(turn);
+            session.lastAccessMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 대화 새로 시작
+     */
+    public synchronized void clear(Long userId) {
+        if (userId != null) sessions.remove(userId);
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void purgeIdle() {
+        if (!properties.isEnabled()) return;
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (this) {
+            Iterator<Session> it = sessions.values().iterator();
+            while (it.hasNext()) {
+                if (isIdle(it.next(), now)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("[ChatSessionStore] removed {} idle sessions", removed);
+        }
+    }
+
+    /**
+     * 토큰 수 대략 계산 (한글 음절 1글자 ≈ 1토큰, 그 외 문자 4글자 ≈ 1토큰, 공백 제외)
+     */
+    static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) return 0;
+        int hangul = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                hangul++;
+            } else if (!Character.isWhitespace(c)) {
+                other++;
+            }
+        }
+        return hangul + (other + 3) / 4;
+    }
+
+    private boolean isIdle(Session session, long now) {
+        return now - session.lastAccessMillis > TimeUnit.MINUTES.toMillis(properties.getIdleTimeoutMinutes());
+    }
+
+    private String truncate(String text) {
+        if (text == null) return "";
+        int max = Math.max(1, properties.getMaxTurnChars());
+        return text.length() <= max ? text : text.substring(0, max);
+    }
+}
@@ -0,0 +1,35 @@
+package AI_Secretary.service.Ai;
+
+import AI_Secretary.client.AiPriority;
+import AI_Secretary.util.SingleFlight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * 우선순위를 고려한 single-flight (AI 호출용)
+ * - 같은 키 + 같은 순위 이상(INTERACTIVE ≥ ADMIN ≥ BACKGROUND)으로 이미 진행 중인 호출이 있으면 그 결과를 같이 받음
+ * - 낮은 순위 호출만 진행 중이면 합류하지 않고 자기 순위로 새로 호출
+ *   → 사용자 요청이 미리 생성(prewarm)/재생성 같은 BACKGROUND 호출에 묶여 대기열 뒤에서 기다리지 않음
+ *   (같은 입력으로 LLM 을 한 번 더 부르는 건 순위가 엇갈린 짧은 순간뿐)
+ */
+final class PrioritizedFlights<V> {
+
+    private final SingleFlight<String, V> flights = new SingleFlight<>();
+
+    CompletableFuture<V> executeAsync(String key, AiPriority priority, Supplier<? extends CompletionStage<V>> loader) {
+        for (AiPriority running : AiPriority.values()) {
+            if (running.rank() > priority.rank()) continue;
+            CompletableFuture<V> joined = flights.joinIfRunning(flightKey(key, running));
+            if (joined != null) {
+                return joined;
+            }
+        }
+        return flights.executeAsync(flightKey(key, priority), loader);
+    }
+
+    private static String flightKey(String key, AiPriority priority) {
+        return priority.name() + ":" + key;
+    }
+}
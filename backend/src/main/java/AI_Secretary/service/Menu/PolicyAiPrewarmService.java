@@ -0,0 +1,140 @@
+package AI_Secretary.service.Menu;
+
+import AI_Secretary.DTO.AiDTO.AiGuideResponse;
+import AI_Secretary.client.AiHealthProber;
+import AI_Secretary.client.AiPriority;
+import AI_Secretary.config.AiPrewarmProperties;
+import AI_Secretary.config.PolicyDetailProperties;
+import AI_Secretary.repository.search.PolicyBookmarkRepository;
+import AI_Secretary.service.Ai.AiGuideService;
+import AI_Secretary.service.Ai.AiSummaryRefresher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 정책 AI 결과(요약, 신청 도우미) 야간 미리 생성
+ *
+ * - 대상: 최근 상세 조회 수 × viewWeight + 북마크 수 × bookmarkWeight 상위 limit 개
+ * - 요약: 없거나 summaryRefreshAheadDays 안에 유효 기간이 끝나면 재생성 → 낮 시간 첫 조회가 LLM 을 기다리지 않음
+ * - 신청 도우미: 캐시(AiGuideCache)에 없거나 입력이 바뀐 정책만 실제로 호출됨
+ * - AI 호출은 전부 BACKGROUND 우선순위, 동시 처리 수는 concurrency 로 제한
+ * - 스케줄러 스레드는 시작만 하고 바로 반환 (다른 @Scheduled 작업을 막지 않게), 이전 실행이 안 끝났으면 건너뜀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicyAiPrewarmService {
+
+    private final PolicyBookmarkRepository policyBookmarkRepository;
+    private final PolicyViewCounter policyViewCounter;
+    private final PolicyQueryService policyQueryService;
+    private final AiGuideService aiGuideService;
+    private final AiSummaryRefresher aiSummaryRefresher;
+    private final AiHealthProber aiHealthProber;
+    private final AiPrewarmProperties properties;
+    private final PolicyDetailProperties policyDetailProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${ai.prewarm.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void prewarmNightly() {
+        if (!properties.isEnabled()) return;
+        if (aiHealthProber.isDown()) {
+            log.warn("[AiPrewarm] AI 서버가 응답하지 않아 건너뜀");
+            return;
+        }
+        start();
+    }
+
+    /**
+     * @return 이번 호출로 시작했으면 true (이미 실행 중이면 false)
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) return false;
+
+        List<Long> targets;
+        try {
+            targets = rankTargets();
+        } catch (RuntimeException e) {
+            running.set(false);
+            log.error("[AiPrewarm] 대상 선정 실패", e);
+            return false;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        AtomicInteger summaries = new AtomicInteger();
+        AtomicInteger guides = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        Flux.fromIterable(targets)
+                .flatMap(policyId -> Mono.fromRunnable(() -> warm(policyId, summaries, guides, failed))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        Math.max(1, properties.getConcurrency()))
+                .doFinally(signal -> {
+                    running.set(false);
+                    log.info("[AiPrewarm] 완료. policies={}, summaries={}, guides={}, failed={}, elapsed={}ms",
+                            targets.size(), summaries.get(), guides.get(), failed.get(),
+                            Duration.between(startedAt, LocalDateTime.now()).toMillis());
+                })
+                .subscribe();
+        return true;
+    }
+
+    /**
+     * 인기 순 상위 limit 개 정책 id
+     */
+    private List<Long> rankTargets() {
+        Map<Long, Double> scores = new HashMap<>();
+        policyViewCounter.snapshotAndDecay(properties.getViewDecay())
+                .forEach((policyId, views) -> scores.merge(policyId, views * properties.getViewWeight(), Double::sum));
+        for (PolicyBookmarkRepository.PolicyBookmarkCount c : policyBookmarkRepository.countGroupByPolicy()) {
+            scores.merge(c.getPolicyId(), c.getBookmarkCount() * properties.getBookmarkWeight(), Double::sum);
+        }
+
+        return scores.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(Math.max(0, properties.getLimit()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void warm(Long policyId, AtomicInteger summaries, AtomicInteger guides, AtomicInteger failed) {
+        try {
+            PolicyQueryService.SummarySource source = policyQueryService.loadSummarySource(policyId);
+            if (source != null && needsSummaryRefresh(source.touchedAt())
+                    && aiSummaryRefresher.refreshNow(source.aiResultId(), source.documentId(), source.sourceText())) {
+                summaries.incrementAndGet();
+            }
+
+            // 캐시에 있으면 AI 호출 없이 바로 반환, 없거나 입력이 바뀌었으면 생성 후 캐시에 저장
+            AiGuideResponse guide = aiGuideService.getAiGuideForPolicy(policyId, AiPriority.BACKGROUND);
+            if (guide != null && guide.who() != null) {
+                guides.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("[AiPrewarm] policyId={} 실패: {}", policyId, e.toString());
+        }
+    }
+
+    private boolean needsSummaryRefresh(LocalDateTime touchedAt) {
+        if (touchedAt == null) return true;
+        int freshDays = policyDetailProperties.getSummaryTtlDays() - properties.getSummaryRefreshAheadDays();
+        return !touchedAt.isAfter(LocalDateTime.now().minusDays(Math.max(0, freshDays)));
+    }
+}
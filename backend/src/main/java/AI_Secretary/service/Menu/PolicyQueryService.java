@@ -3,6 +3,10 @@ package AI_Secretary.service.Menu;
 import AI_Secretary.DTO.AiDTO.AiGuideResponse;
 import AI_Secretary.DTO.SearchDTO.*;
 import AI_Secretary.Exceptions.PolicyNotFoundException;
+import AI_Secretary.Exceptions.SearchIndexNotReadyException;
+import AI_Secretary.config.PolicyDetailProperties;
+import AI_Secretary.config.PolicySearchProperties;
+import AI_Secretary.config.RecommendationProperties;
 import AI_Secretary.domain.policyData.DocumentAiResult;
 import AI_Secretary.domain.policyData.PolicyData;
 import AI_Secretary.domain.policyData.PolicyRequiredDocument;
@@ -10,22 +14,32 @@ import AI_Secretary.domain.user.UserInterests;
 import AI_Secretary.domain.user.UserProfile;
 import AI_Secretary.repository.User.UserInterestsRepository;
 import AI_Secretary.repository.User.UserProfileRepository;
+import AI_Secretary.repository.User.UserRecommendationRepository;
 import AI_Secretary.repository.User.UserRepository;
 import AI_Secretary.repository.search.*;
 import AI_Secretary.repository.sideService.CalendarEventRepository;
 import AI_Secretary.service.Ai.AiGuideService;
+import AI_Secretary.service.Ai.AiSummaryRefresher;
 import AI_Secretary.service.Ai.AiSummaryService;
+import AI_Secretary.service.Search.FacetedHits;
+import AI_Secretary.service.Search.PolicyDocument;
+import AI_Secretary.service.Search.PolicyFacet;
+import AI_Secretary.service.Search.PolicySearchIndex;
+import AI_Secretary.service.Search.PolicySuggestIndex;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PolicyQueryService {
@@ -42,16 +56,130 @@ public class PolicyQueryService {
     private final UserInterestsRepository userInterestsRepository;
     private final AiGuideService aiGuideService;
     private final AiSummaryService aiSummaryService;
+    private final AiSummaryRefresher aiSummaryRefresher;
+    private final PolicySearchIndex policySearchIndex;
+    private final PolicySuggestIndex policySuggestIndex;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationRules recommendationRules;
+    private final RecommendationProperties recommendationProperties;
+    private final UserRecommendationRepository userRecommendationRepository;
+    private final PolicySearchProperties policySearchProperties;
+    private final PolicyDetailProperties policyDetailProperties;
+    private final ExecutorService policyDetailExecutor;
+    private final PolicyViewCounter policyViewCounter;
+
+    /**
+     * 검색바 / 정책 목록
+     * - 키워드 있음 + 인덱스 준비됨: 인메모리 BM25 관련도순, 오프셋 커서 (뒤 페이지일수록 top-K 깊이만 늘어남)
+     * - 그 외(키워드 없음, 인덱스 빌드 전): DB 키셋 페이지네이션 (lastModifiedAt, id)
+     * 어느 쪽이든 한 번에 pageSize 건만 만들어서 내려보냄
+     *
+     * @param fuzzy true 면 정확 검색 결과가 하나도 없을 때 같은 요청 안에서 오타 허용 검색으로 재시도
+     */
     @Transactional(readOnly = true)
-    public List<PolicySummaryDto> searchPolicies(String keyword) {
-        return policyDataRepository.searchByKeyword(keyword)
+    public CursorPage<PolicySummaryDto> searchPolicies(String keyword, String cursor, Integer size, boolean fuzzy) {
+        int pageSize = policySearchProperties.clampPageSize(size);
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+
+        if (hasKeyword && policySearchProperties.isIndexEnabled() && policySearchIndex.isReady()) {
+            int offset = (pageCursor != null && pageCursor.isOffset()) ? pageCursor.offset() : 0;
+            int depth = searchDepth(offset, pageSize);
+            List<PolicyDocument> ranked = policySearchIndex.search(keyword, depth);
+            if (ranked.isEmpty() && fuzzy) {
+                ranked = policySearchIndex.searchFuzzy(keyword, depth);
+            }
+
+            int from = Math.min(offset, ranked.size());
+            int to = Math.min(offset + pageSize, ranked.size());
+            List<PolicySummaryDto> items = ranked.subList(from, to)
+                    .stream()
+                    .map(this::toPolicySummaryDto)
+                    .toList();
+            String next = ranked.size() > to ? PageCursor.offset(to).encode() : null;
+            return new CursorPage<>(items, next);
+        }
+
+        // 오프셋 커서가 넘어왔는데 인덱스를 못 쓰는 경우엔 첫 페이지부터
+        PageCursor keysetCursor = (pageCursor != null && !pageCursor.isOffset()) ? pageCursor : null;
+        List<PolicyData> rows = policyDataRepository.findPage(keyword, keysetCursor, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PolicyData> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String next = null;
+        if (hasNext) {
+            PolicyData last = page.get(page.size() - 1);
+            next = PageCursor.keyset(last.getLastModifiedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(
+                page.stream().map(this::toPolicySummaryDto).toList(),
+                next
+        );
+    }
+
+    /**
+     * 패싯 검색: 결과 + 카테고리/지역/지원주기/온라인신청 여부별 건수
+     * - 인메모리 인덱스 전용 (GROUP BY 를 매 요청 돌리지 않기 위해), 인덱스 준비 전이면 503 (SearchIndexNotReadyException)
+     * - 페이지는 검색과 같은 오프셋 커서
+     */
+    public PolicyFacetedSearchResponse searchPoliciesWithFacets(
+            String keyword, Map<PolicyFacet, String> filters, String cursor, Integer size
+    ) {
+        if (!policySearchProperties.isIndexEnabled() || !policySearchIndex.isReady()) {
+            throw new SearchIndexNotReadyException();
+        }
+        int pageSize = policySearchProperties.clampPageSize(size);
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int offset = (pageCursor != null && pageCursor.isOffset()) ? pageCursor.offset() : 0;
+        int depth = searchDepth(offset, pageSize);
+
+        FacetedHits hits = policySearchIndex.searchFaceted(keyword, filters, depth);
+        List<PolicyDocument> ranked = hits.ranked();
+
+        int from = Math.min(offset, ranked.size());
+        int to = Math.min(offset + pageSize, ranked.size());
+        List<PolicySummaryDto> items = ranked.subList(from, to)
                 .stream()
                 .map(this::toPolicySummaryDto)
                 .toList();
+        String next = ranked.size() > to ? PageCursor.offset(to).encode() : null;
+        return new PolicyFacetedSearchResponse(items, hits.total(), hits.facets(), next);
     }
 
+    /**
+     * 이번 페이지 + 다음 페이지 유무 확인용 1건까지 뽑을 top-K 깊이
+     * (인덱스 문서 수를 넘으면 더 뽑을 게 없으므로 거기서 자름 → 큰 오프셋으로 top-K 배열이 커지지 않게)
+     */
+    private int searchDepth(int offset, int pageSize) {
+        long wanted = (long) offset + pageSize + 1;
+        return (int) Math.min(wanted, policySearchIndex.size());
+    }
+
+    /**
+     * 검색바 자동완성 (키 입력마다 호출되므로 DB 는 타지 않음, 인덱스 준비 전이면 빈 목록)
+     */
+    public List<PolicySuggestionDto> suggestPolicies(String prefix, Integer limit) {
+        if (!policySearchProperties.isIndexEnabled() || !policySuggestIndex.isReady()) {
+            return List.of();
+        }
+        return policySuggestIndex.suggest(prefix, policySearchProperties.clampSuggestSize(limit));
+    }
+
+    /**
+     * 사용자별 추천 (프로필/관심사/정책 목록이 바뀌기 전까지는 캐시 결과 재사용)
+     */
     @Transactional(readOnly = true)
     public List<PolicySummaryDto> getRecommendedPolicies(Long userId, int limit) {
+        return recommendationCache.get(userId, limit, n -> computeRecommendedPolicies(userId, n));
+    }
+
+    private List<PolicySummaryDto> computeRecommendedPolicies(Long userId, int limit) {
+
+        // 0) 야간 배치로 미리 계산해 둔 결과가 있으면 PK 조회 한 번으로 끝
+        List<PolicySummaryDto> materialized = readMaterializedRecommendations(userId, limit);
+        if (materialized != null) {
+            return materialized;
+        }
 
         // 1) 프로필 필수: 없으면 추천을 할 수 없으니 예외 처리 또는 빈 리스트
         UserProfile profile = userProfileRepository.findById(userId)
@@ -67,7 +195,17 @@ public class PolicyQueryService {
                 .collect(Collectors.toCollection(LinkedHashSet::new)); // 순서 유지 + 중복 제거
 
         // 3) 복지정보(welfareInfo) 기반으로 카테고리 코드 확장
-        enrichCategoryCodesByWelfareInfo(profile, recommendedCategoryCodes);
+        recommendationRules.enrichCategoryCodesByWelfareInfo(profile, recommendedCategoryCodes);
+
+        // 인메모리: 가중합 점수 엔진(카테고리/지역/마감/생애주기/인기도), 꺼져 있으면 후보 인덱스(마감일 순)
+        if (policySearchProperties.isIndexEnabled()) {
+            List<PolicyDocument> ranked = recommendationRules.rank(profile, recommendedCategoryCodes, limit);
+            if (ranked != null) {
+                return ranked.stream()
+                        .map(this::toPolicySummaryDto)
+                        .toList();
+            }
+        }
 
         // JPA 쿼리 메서드 파라미터용 List
         List<String> categoryCodesParam = recommendedCategoryCodes.isEmpty()
@@ -89,27 +227,26 @@ public class PolicyQueryService {
                 .map(this::toPolicySummaryDto)
                 .toList();
     }
-    private void enrichCategoryCodesByWelfareInfo(UserProfile profile, Set<String> codes) {
-        if (profile == null) return;
-
-        String incomeLevel = profile.getIncomeLevel();
-        if ("basic".equalsIgnoreCase(incomeLevel) || "near".equalsIgnoreCase(incomeLevel)) {
-            codes.add("FINANCE");
-            codes.add("LOCAL");
-        }
-
-        if (Boolean.TRUE.equals(profile.getHasDisability())) {
-            codes.add("SENIOR");
-            codes.add("LOCAL");
-        }
-
-        if (Boolean.TRUE.equals(profile.getLivingAlone())) {
-            codes.add("LOCAL");
-        }
-
-        if (profile.getAge() != null && profile.getAge() >= 65) {
-            codes.add("SENIOR");
+    /**
+     * user_recommendation 에 쓸 만한 결과가 있으면 인덱스 스냅샷으로 DTO 구성
+     * - 없거나, 너무 오래됐거나, 요청 개수를 못 채우면 null → 요청 시 계산
+     * - 그 사이 삭제된 정책은 건너뜀
+     */
+    private List<PolicySummaryDto> readMaterializedRecommendations(Long userId, int limit) {
+        if (!recommendationProperties.isMaterializeEnabled() || !policySearchIndex.isReady()) {
+            return null;
         }
+        LocalDateTime freshAfter = LocalDateTime.now().minusHours(recommendationProperties.getMaterializedMaxAgeHours());
+        return userRecommendationRepository.findById(userId)
+                .filter(r -> r.getComputedAt().isAfter(freshAfter) && r.covers(limit))
+                .map(r -> r.policyIdList()
+                        .stream()
+                        .map(policySearchIndex::findById)
+                        .flatMap(Optional::stream)
+                        .limit(limit)
+                        .map(this::toPolicySummaryDto)
+                        .toList())
+                .orElse(null);
     }
 
     private List<PolicyData> sortByPersonalPriority(List<PolicyData> list, Set<String> preferredCodes) {
@@ -148,10 +285,43 @@ public class PolicyQueryService {
                 .toList();
     }
 
-    public PolicyDetailResponse getPolicyDetail(Long policyId, Long userIdOrNull) {
+    /**
+     * 정책 상세
+     * - 서로 의존하지 않는 단계(신청 도우미 AI, 필수 서류, 유저 컨텍스트, 요약 AI)를 동시에 실행
+     *   DB 단계는 policyDetailExecutor, AI 단계는 논블로킹 WebClient (기다리는 동안 스레드 점유 없음)
+     *   → 응답 시간 ≈ 가장 느린 단계 (예전: 모든 단계의 합, AI 두 번이면 최대 60초)
+     * - AI 두 단계는 요청 시작 기준 공통 마감(aiDeadlineMs)을 공유, 넘기면 기다리지 않고 대체값으로 응답
+     * - 엔티티(policy, aiResult)는 호출 스레드에서만 다루고, 다른 스레드에는 id / 문자열만 넘김
+     */
+    /**
+     * 정책/AI 결과 조회까지만 호출 스레드에서 하고, AI·필수 서류·유저 컨텍스트는 future 로 합쳐서 반환
+     * (컨트롤러가 future 를 그대로 돌려주므로 AI 마감까지 Tomcat 스레드를 붙잡지 않음)
+     */
+    public CompletableFuture<PolicyDetailResponse> getPolicyDetail(Long policyId, Long userIdOrNull) {
+        long aiDeadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(policyDetailProperties.getAiDeadlineMs());
+
+        // 신청 도우미는 policyId 만 있으면 되므로 정책 조회보다 먼저 출발
+        CompletableFuture<AiGuideResponse> guideFuture =
+                aiGuideService.getAiGuideForPolicyAsync(policyId).toFuture();
+
+        CompletableFuture<List<PolicyRequiredDocumentDto>> docsFuture = CompletableFuture.supplyAsync(
+                () -> policyRequiredDocumentRepository
+                        .findByPolicy_IdOrderBySortOrderAsc(policyId)
+                        .stream()
+                        .map(this::mapToRequiredDocumentDto)
+                        .toList(),
+                policyDetailExecutor);
+
+        CompletableFuture<PolicyUserContextDto> userContextFuture = userIdOrNull == null
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> loadUserContext(userIdOrNull, policyId), policyDetailExecutor);
+
         PolicyData policy = policyDataRepository
                 .findByIdWithCategory(policyId)
                 .orElseThrow(() -> new PolicyNotFoundException(policyId));
+        // AI 미리 생성 대상 순위용 (실제 있는 정책만 → 없는 id 로 카운터가 커지지 않음)
+        policyViewCounter.record(policyId);
 
         // 1) 기본 정보 DTO
         PolicyBasicDto basicDto = mapToBasicDto(policy);
@@ -161,70 +331,154 @@ public class PolicyQueryService {
                 .findTopByDocument_Policy_IdOrderByCreatedAtDesc(policyId)
                 .orElse(null);
 
-        // 2-1) 캐시를 고려한 요약 텍스트 결정
-        String aiSummary = getOrCreateSummary(policy, aiResult);
+        // 2-1) 캐시된 요약이 유효하면 그대로, 아니면 요약 요청만 비동기로
+        //      유효 기간이 지났어도 stale-while-revalidate 면 옛 요약으로 바로 응답하고 재생성은 백그라운드로
+        //      (요약 원문은 LAZY 연관을 읽으므로 여기서 만들어서 넘김)
+        String cachedSummary = null;
+        if (hasSummary(aiResult)) {
+            if (isSummaryFresh(aiResult)) {
+                cachedSummary = aiResult.getSummaryText();
+            } else if (policyDetailProperties.isSummaryStaleWhileRevalidate()) {
+                cachedSummary = aiResult.getSummaryText();
+                aiSummaryRefresher.refreshAsync(aiResult.getId(), documentIdOf(aiResult),
+                        buildSummarySourceText(policy, aiResult));
+            }
+        }
+        CompletableFuture<String> summaryFuture;
+        if (cachedSummary != null) {
+            summaryFuture = CompletableFuture.completedFuture(cachedSummary);
+        } else {
+            String question = buildSummarySourceText(policy, aiResult);
+            summaryFuture = aiSummaryService.summarizeTextAsync(question, documentIdOf(aiResult)).toFuture();
+        }
 
-        // 2-2) 신청 도우미(AiGuideResponse)
-        AiGuideResponse guide = aiGuideService.getAiGuideForPolicy(policyId);
+        // 2-2) AI 결과는 공통 마감이 지나면 fallback 으로 채움
+        CompletableFuture<String> summaryStep =
+                withinDeadline(summaryFuture, aiDeadlineNanos, null, "summary", policyId);
+        CompletableFuture<AiGuideResponse> guideStep = withinDeadline(guideFuture, aiDeadlineNanos,
+                new AiGuideResponse(null, null, null, null, null, null, null), "aiHelper", policyId);
+
+        // 3) 필수 서류, 4) 유저 컨텍스트는 DB 조회라 마감 없이 합침
+        //    (요약 저장이 JPA 호출이라 WebClient 이벤트 루프가 아닌 상세 조회 풀에서 마무리)
+        String cached = cachedSummary;
+        return CompletableFuture.allOf(summaryStep, guideStep, docsFuture, userContextFuture)
+                .thenApplyAsync(ignored -> {
+                    String aiSummary = cached != null ? cached : applySummary(aiResult, summaryStep.join());
+
+                    // 최종 PolicyAiDto 구성 (aiSummary + 나머지 aiResult 정보 + guide)
+                    PolicyAiDto aiDto = mapToAiDto(policy, aiResult, aiSummary, guideStep.join());
+
+                    return new PolicyDetailResponse(
+                            basicDto,
+                            aiDto,
+                            docsFuture.join(),
+                            userContextFuture.join()
+                    );
+                }, policyDetailExecutor);
+    }
 
-        // 2-3) 최종 PolicyAiDto 구성 (aiSummary + 나머지 aiResult 정보 + guide)
-        PolicyAiDto aiDto = mapToAiDto(policy, aiResult, aiSummary, guide);
+    /**
+     * AI 요약 미리 생성용 (야간 배치 스레드에서 호출, LAZY 연관을 읽으므로 트랜잭션 안에서 원문까지 만들어서 반환)
+     * @return 저장할 DocumentAiResult 가 없으면 null (상세 조회 때도 요약을 저장하지 않는 정책)
+     */
+    @Transactional(readOnly = true)
+    public SummarySource loadSummarySource(Long policyId) {
+        PolicyData policy = policyDataRepository.findById(policyId).orElse(null);
+        DocumentAiResult aiResult = documentAiResultRepository
+                .findTopByDocument_Policy_IdOrderByCreatedAtDesc(policyId)
+                .orElse(null);
+        if (policy == null || aiResult == null) return null;
 
-        // 3) 필수 서류
-        List<PolicyRequiredDocumentDto> docDtos = policyRequiredDocumentRepository
-                .findByPolicy_IdOrderBySortOrderAsc(policyId)
-                .stream()
-                .map(this::mapToRequiredDocumentDto)
-                .toList();
+        LocalDateTime touchedAt = hasSummary(aiResult) ? summarizedAtOf(aiResult) : null;
+        return new SummarySource(aiResult.getId(), documentIdOf(aiResult),
+                buildSummarySourceText(policy, aiResult), touchedAt);
+    }
 
-        // 4) 유저 컨텍스트
-        PolicyUserContextDto userContext = null;
-        if (userIdOrNull != null) {
-            boolean bookmarked =
-                    policyBookmarkRepository.existsByUserIdAndPolicyId(userIdOrNull, policyId);
+    /**
+     * @param touchedAt 요약 마지막 갱신 시각 (요약이 아직 없으면 null)
+     */
+    public record SummarySource(Long aiResultId, Long documentId, String sourceText, LocalDateTime touchedAt) {}
 
-            boolean hasChecklist =
-                    policyChecklistRepository.existsByUserIdAndPolicyId(userIdOrNull, policyId);
+    private PolicyUserContextDto loadUserContext(Long userId, Long policyId) {
+        boolean bookmarked =
+                policyBookmarkRepository.existsByUserIdAndPolicyId(userId, policyId);
 
-            LocalDate nearestEventDate =
-                    calendarEventRepository
-                            .findNearestDateByUserIdAndPolicyId(userIdOrNull, policyId)
-                            .orElse(null);
+        boolean hasChecklist =
+                policyChecklistRepository.existsByUserIdAndPolicyId(userId, policyId);
 
-            userContext = new PolicyUserContextDto(bookmarked, hasChecklist, nearestEventDate);
-        }
+        LocalDate nearestEventDate =
+                calendarEventRepository
+                        .findNearestDateByUserIdAndPolicyId(userId, policyId)
+                        .orElse(null);
 
-        return new PolicyDetailResponse(
-                basicDto,
-                aiDto,
-                docDtos,
-                userContext
-        );
+        return new PolicyUserContextDto(bookmarked, hasChecklist, nearestEventDate);
     }
-    private String getOrCreateSummary(PolicyData policy, DocumentAiResult aiResult) {
-        // 1) 캐시에 유효한 값이 있으면 그대로 사용
-        if (aiResult != null && aiResult.getSummaryText() != null && !aiResult.getSummaryText().isBlank()) {
-
-            // TTL 예시: 7일 이내면 캐시로 인정
-            LocalDateTime createdAt = aiResult.getCreatedAt();
-            if (createdAt != null && createdAt.isAfter(LocalDateTime.now().minusDays(7))) {
-                return aiResult.getSummaryText();
-            }
-        }
 
-        // 2) 없거나 오래된 경우 → 새로 요약 요청
-        String question = buildSummarySourceText(policy, aiResult);  // 여기에서 content_text도 포함되도록 이미 확장 예정이었음
-        String newSummary = aiSummaryService.summarizeText(question);
+    /**
+     * 마감 시각이 지나거나 실패하면 fallback 으로 완료되는 future
+     * (뒤에서 계속 도는 AI 호출은 각자의 WebClient timeout 으로 정리됨)
+     */
+    private static <T> CompletableFuture<T> withinDeadline(CompletableFuture<T> future, long deadlineNanos,
+                                                           T fallback, String step, Long policyId) {
+        long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+        return future
+                .handle((value, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        log.warn("[PolicyDetail] {} failed. policyId={}, cause={}", step, policyId, cause.toString());
+                        return fallback;
+                    }
+                    return value != null ? value : fallback;
+                })
+                .completeOnTimeout(fallback, remaining, TimeUnit.NANOSECONDS)
+                .whenComplete((value, e) -> {
+                    if (!future.isDone()) {
+                        log.warn("[PolicyDetail] {} deadline exceeded. policyId={}", step, policyId);
+                    }
+                });
+    }
+
+    /**
+     * summarized_at 이 생기기 전에 만든 요약은 updated_at(없으면 created_at) 으로 대신
+     * (한 번 재생성되면 summarized_at 이 채워짐)
+     */
+    private static LocalDateTime summarizedAtOf(DocumentAiResult aiResult) {
+        if (aiResult.getSummarizedAt() != null) return aiResult.getSummarizedAt();
+        return aiResult.getUpdatedAt() != null ? aiResult.getUpdatedAt() : aiResult.getCreatedAt();
+    }
+
+    // LAZY 프록시라도 id 는 초기화 없이 읽힘
+    private static Long documentIdOf(DocumentAiResult aiResult) {
+        return aiResult != null && aiResult.getDocument() != null ? aiResult.getDocument().getId() : null;
+    }
 
+    private static boolean hasSummary(DocumentAiResult aiResult) {
+        return aiResult != null && aiResult.getSummaryText() != null && !aiResult.getSummaryText().isBlank();
+    }
+
+    /**
+     * 마지막 요약 시각이 TTL(summaryTtlDays) 안이면 유효
+     */
+    private boolean isSummaryFresh(DocumentAiResult aiResult) {
+        LocalDateTime touchedAt = summarizedAtOf(aiResult);
+        return touchedAt != null
+                && touchedAt.isAfter(LocalDateTime.now().minusDays(policyDetailProperties.getSummaryTtlDays()));
+    }
+
+    /**
+     * 새로 받은 요약 반영 (호출 스레드에서 실행)
+     */
+    private String applySummary(DocumentAiResult aiResult, String newSummary) {
         if (newSummary == null || newSummary.isBlank()) {
-            // 요약 실패 시: 그래도 이전 요약이 있으면 그거라도 반환
+            // 요약 실패/마감 초과 시: 그래도 이전 요약이 있으면 그거라도 반환
             return (aiResult != null) ? aiResult.getSummaryText() : null;
         }
 
-        // 3) DB에 캐시 저장 (로그 겸 캐시)
+        // DB에 캐시 저장 (로그 겸 캐시)
         if (aiResult != null) {
             aiResult.updateSummary(newSummary);
-            // JPA 영속 상태면 @Transactional 안에서 자동 flush, 별도 save() 필요 X
+            // 이 메서드는 트랜잭션 밖이라 dirty checking 으로는 반영 안 됨 → 명시적으로 저장
+            documentAiResultRepository.save(aiResult);
         } else {
             // 문서 기반 결과가 전혀 없는 정책이라면:
             // - Document 엔티티를 불러와서 새 DocumentAiResult를 만들거나,
@@ -402,4 +656,19 @@ public class PolicyQueryService {
                 p.getOnapPossible()
         );
     }
+
+    private PolicySummaryDto toPolicySummaryDto(PolicyDocument d) {
+        return new PolicySummaryDto(
+                d.id(),
+                d.name(),
+                d.summary(),
+                d.mainCategoryCode(),
+                d.mainCategoryName(),
+                d.regionCtpv(),
+                d.regionSgg(),
+                d.deptName(),
+                d.supportCycle(),
+                d.onapPossible()
+        );
+    }
 }
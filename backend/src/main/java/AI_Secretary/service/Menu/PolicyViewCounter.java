@@ -0,0 +1,35 @@
+package AI_Secretary.service.Menu;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정책 상세 조회 수 (메모리, AI 미리 생성 대상 고르기용)
+ *
+ * - 상세 조회마다 +1, 재시작하면 0부터 (정확한 통계가 아니라 "요즘 많이 보는 정책" 순위용)
+ * - decay 로 주기적으로 줄여서 최근 조회가 더 크게 반영되게 함
+ * - 크기는 정책 수를 넘지 않음
+ */
+@Component
+public class PolicyViewCounter {
+
+    private final Map<Long, Long> views = new ConcurrentHashMap<>();
+
+    public void record(Long policyId) {
+        if (policyId == null) return;
+        views.merge(policyId, 1L, Long::sum);
+    }
+
+    /**
+     * 현재 조회 수를 돌려주고, 남은 값에는 ratio 를 곱함 (0 이 되면 제거)
+     */
+    public Map<Long, Long> snapshotAndDecay(double ratio) {
+        Map<Long, Long> snapshot = new HashMap<>(views);
+        views.replaceAll((id, count) -> (long) (count * ratio));
+        views.values().removeIf(count -> count <= 0);
+        return snapshot;
+    }
+}
@@ -0,0 +1,172 @@
+package AI_Secretary.service.Menu;
+
+import AI_Secretary.config.RecommendationProperties;
+import AI_Secretary.domain.user.UserProfile;
+import AI_Secretary.repository.User.UserInterestsRepository;
+import AI_Secretary.repository.User.UserProfileRepository;
+import AI_Secretary.repository.User.UserRecommendationRepository;
+import AI_Secretary.service.Search.PolicyDocument;
+import AI_Secretary.service.Recommend.RecommendationScoringEngine;
+import AI_Secretary.service.Search.RecommendationCandidateIndex;
+import AI_Secretary.service.User.UserPreferenceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 추천 미리 계산 배치 → user_recommendation
+ *
+ * - user_profile 을 user_id 순으로 청크 단위로 읽고, 청크마다 관심사를 IN 쿼리 한 번으로 가져옴
+ * - 점수 계산은 전용 ForkJoinPool 에서 병렬 (공용 풀을 배치가 점유하지 않게)
+ *   규칙은 요청 시 계산과 동일 (RecommendationRules.rank)
+ * - 쓰기는 청크당 JDBC batch upsert 한 번
+ * - 프로필/관심사가 바뀐 사용자는 같은 트랜잭션 안에서 행을 지우고 preference_version 을 올림
+ *   upsert 는 프로필을 읽을 때의 version 이 그대로일 때만 → 계산 도중 바뀐 사용자의 옛 결과가 다시 써지지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationBatchService {
+
+    private static final String UPSERT_SQL = """
+            insert into user_recommendation (user_id, policy_ids, complete, computed_at)
+            select user_id, ?, ?, ?
+            from user_profile
+            where user_id = ? and coalesce(preference_version, 0) = ?
+            on duplicate key update
+                policy_ids = values(policy_ids),
+                complete = values(complete),
+                computed_at = values(computed_at)
+            """;
+
+    private final UserProfileRepository userProfileRepository;
+    private final UserInterestsRepository userInterestsRepository;
+    private final UserRecommendationRepository userRecommendationRepository;
+    private final RecommendationCandidateIndex recommendationCandidateIndex;
+    private final RecommendationScoringEngine scoringEngine;
+    private final RecommendationRules recommendationRules;
+    private final RecommendationProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private record Row(Long userId, long preferenceVersion, String policyIds, boolean complete) {}
+
+    /**
+     * 매일 04:00 (03:30 인덱스 전체 재빌드 이후)
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void materializeAll() {
+        if (!properties.isMaterializeEnabled()) return;
+        if (!scoringEngine.isReady() && !recommendationCandidateIndex.isReady()) {
+            log.warn("[RecommendationBatch] 추천 인덱스가 준비되지 않아 건너뜀");
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        int chunkSize = Math.max(1, properties.getBatchChunkSize());
+        int limit = properties.getCachedLimit();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, properties.getBatchParallelism()));
+        long lastId = 0L;
+        int total = 0;
+        int skipped = 0;
+
+        try {
+            while (true) {
+                List<UserProfile> profiles = userProfileRepository.findByIdGreaterThanOrderByIdAsc(
+                        lastId, PageRequest.of(0, chunkSize));
+                if (profiles.isEmpty()) break;
+
+                Map<Long, List<String>> interestsByUser = loadInterestCodes(profiles);
+                List<Row> rows = pool.submit(() -> profiles.parallelStream()
+                        .map(p -> score(p, interestsByUser.getOrDefault(p.getId(), List.of()), limit))
+                        .toList()
+                ).get();
+
+                int written = write(rows, startedAt);
+                total += written;
+                skipped += rows.size() - written;
+                lastId = profiles.get(profiles.size() - 1).getId();
+            }
+
+            // 이번 배치에서 갱신되지 않은 행(탈퇴 등) 정리
+            int removed = jdbcTemplate.update(
+                    "delete from user_recommendation where computed_at < ?", Timestamp.valueOf(startedAt));
+            log.info("[RecommendationBatch] 완료. users={}, changedDuringBatch={}, removed={}, elapsed={}ms",
+                    total, skipped, removed, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[RecommendationBatch] 중단됨. 처리한 사용자 수={}", total);
+        } catch (ExecutionException e) {
+            log.error("[RecommendationBatch] 점수 계산 실패. lastUserId={}", lastId, e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 프로필/관심사 변경과 같은 트랜잭션에서 미리 계산한 결과 삭제 + preference_version 증가
+     * (배치가 그 전에 읽어 둔 프로필로 계산한 결과는 version 이 달라서 upsert 되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserPreferenceChanged(UserPreferenceChangedEvent event) {
+        jdbcTemplate.update(
+                "update user_profile set preference_version = coalesce(preference_version, 0) + 1 where user_id = ?",
+                event.userId());
+        userRecommendationRepository.deleteById(event.userId());
+    }
+
+    private Map<Long, List<String>> loadInterestCodes(List<UserProfile> profiles) {
+        List<Long> userIds = profiles.stream().map(UserProfile::getId).toList();
+        return userInterestsRepository.findById_UserIdIn(userIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        i -> i.getId().getUserId(),
+                        Collectors.mapping(i -> i.getId().getCategoryCode(), Collectors.toList())
+                ));
+    }
+
+    private Row score(UserProfile profile, List<String> interestCodes, int limit) {
+        Set<String> codes = recommendationRules.preferredCategoryCodes(profile, interestCodes);
+        List<PolicyDocument> ranked = recommendationRules.rank(profile, codes, limit);
+        if (ranked == null) ranked = List.of();
+        String ids = ranked.stream()
+                .map(d -> String.valueOf(d.id()))
+                .collect(Collectors.joining(","));
+        long version = profile.getPreferenceVersion() != null ? profile.getPreferenceVersion() : 0L;
+        return new Row(profile.getId(), version, ids, ranked.size() < limit);
+    }
+
+    /**
+     * @return 실제로 쓴 행 수 (읽은 뒤 preference_version 이 바뀐 사용자는 건너뜀, 그 사용자는 요청 시 계산)
+     */
+    private int write(List<Row> rows, LocalDateTime computedAt) {
+        Timestamp ts = Timestamp.valueOf(computedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.policyIds());
+            ps.setBoolean(2, row.complete());
+            ps.setTimestamp(3, ts);
+            ps.setLong(4, row.userId());
+            ps.setLong(5, row.preferenceVersion());
+        });
+        int written = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                // 드라이버가 건수를 안 주면(SUCCESS_NO_INFO) 쓴 것으로 침
+                if (count != 0) written++;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,147 @@
+package AI_Secretary.service.Menu;
+
+import AI_Secretary.DTO.AdminDTO.CacheStatsResponse;
+import AI_Secretary.DTO.SearchDTO.PolicySummaryDto;
+import AI_Secretary.config.RecommendationProperties;
+import AI_Secretary.service.Search.PolicyCatalogChangedEvent;
+import AI_Secretary.service.User.UserPreferenceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자별 추천 결과 캐시 (LRU, 최대 cacheMaxSize 명)
+ *
+ * - 추천은 프로필/관심 카테고리/정책 목록에만 의존하므로 셋 중 하나가 바뀔 때까지 재사용
+ * - 사용자 입력 변경: UserPreferenceChangedEvent (커밋 후) → 그 사용자만 제거
+ * - 정책 목록 변경: PolicyCatalogChangedEvent → 카탈로그 버전을 올리고 전체 제거
+ * - 계산 중에 무효화가 끼어들면 계산 결과는 돌려주기만 하고 캐시에는 넣지 않음 (오래된 값 재등록 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCache {
+
+    private final RecommendationProperties properties;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong userInvalidationSeq = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > properties.getCacheMaxSize()) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * @param complete 후보가 computedLimit 보다 적어서 전부 담겨 있음 (더 큰 limit 요청도 그대로 사용 가능)
+     */
+    private record Entry(long catalogVersion, int computedLimit, boolean complete, List<PolicySummaryDto> items) {
+
+        boolean covers(long version, int limit) {
+            return catalogVersion == version && (complete || limit <= computedLimit);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 바로, 없으면 loader(계산할 개수)로 계산해서 저장
+     * - 요청 limit 과 상관없이 cachedLimit 개까지 한 번에 계산해 둠
+     */
+    public List<PolicySummaryDto> get(Long userId, int limit, IntFunction<List<PolicySummaryDto>> loader) {
+        if (!properties.isCacheEnabled() || userId == null) {
+            return loader.apply(limit);
+        }
+
+        long version = catalogVersion.get();
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(userId);
+        }
+        if (cached != null && cached.covers(version, limit)) {
+            hits.increment();
+            return head(cached.items(), limit);
+        }
+
+        misses.increment();
+        long seq = userInvalidationSeq.get();
+        int computeLimit = Math.max(limit, properties.getCachedLimit());
+        List<PolicySummaryDto> items = List.copyOf(loader.apply(computeLimit));
+
+        synchronized (entries) {
+            if (seq == userInvalidationSeq.get() && version == catalogVersion.get()) {
+                entries.put(userId, new Entry(version, computeLimit, items.size() < computeLimit, items));
+            }
+        }
+        return head(items, limit);
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (entries) {
+            userInvalidationSeq.incrementAndGet();
+            if (entries.remove(userId) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            catalogVersion.incrementAndGet();
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserPreferenceChanged(UserPreferenceChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @EventListener
+    public void onCatalogChanged(PolicyCatalogChangedEvent event) {
+        invalidateAll();
+        log.debug("[RecommendationCache] catalog changed ({} policies). cache cleared", event.changedCount());
+    }
+
+    public CacheStatsResponse stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long h = hits.sum();
+        long m = misses.sum();
+        return new CacheStatsResponse(
+                "recommendation",
+                size,
+                properties.getCacheMaxSize(),
+                h,
+                m,
+                (h + m) == 0 ? 0.0 : (double) h / (h + m),
+                evictions.sum(),
+                invalidations.sum()
+        );
+    }
+
+    private static List<PolicySummaryDto> head(List<PolicySummaryDto> items, int limit) {
+        return items.size() <= limit ? items : items.subList(0, limit);
+    }
+}
@@ -0,0 +1,80 @@
+package AI_Secretary.service.Menu;
+
+import AI_Secretary.config.RecommendationProperties;
+import AI_Secretary.domain.user.UserProfile;
+import AI_Secretary.service.Recommend.RecommendationScoringEngine;
+import AI_Secretary.service.Search.PolicyDocument;
+import AI_Secretary.service.Search.RecommendationCandidateIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 추천 규칙 (요청 시 계산 / 야간 배치가 같은 규칙을 쓰도록 한 곳에 모음)
+ * - 관심 카테고리 + 복지정보(소득/장애/1인가구/나이)로 확장한 카테고리 = 선호 카테고리
+ * - 순위: 가중합 점수 엔진 → (꺼져 있거나 준비 전) 선호 카테고리 + 마감일 순 후보 인덱스
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationRules {
+
+    private final RecommendationScoringEngine scoringEngine;
+    private final RecommendationCandidateIndex recommendationCandidateIndex;
+    private final RecommendationProperties properties;
+
+    /**
+     * 인메모리 구조로 추천 순위 계산. 둘 다 준비 전이면 null (호출부에서 DB 로 처리)
+     */
+    public List<PolicyDocument> rank(UserProfile profile, Set<String> preferredCodes, int limit) {
+        if (properties.isScoringEnabled() && scoringEngine.isReady()) {
+            return scoringEngine.recommend(
+                    profile.getRegionCtpv(), profile.getRegionSgg(), profile.getAge(), preferredCodes, limit);
+        }
+        if (recommendationCandidateIndex.isReady()) {
+            return recommendationCandidateIndex.recommend(profile.getRegionCtpv(), preferredCodes, limit);
+        }
+        return null;
+    }
+
+    /**
+     * @param interestCodes user_interests 의 카테고리 코드 (순서 유지)
+     */
+    public Set<String> preferredCategoryCodes(UserProfile profile, Collection<String> interestCodes) {
+        Set<String> codes = interestCodes.stream()
+                .filter(Objects::nonNull)
+                .collect(LinkedHashSet::new, Set::add, Set::addAll); // 순서 유지 + 중복 제거
+        enrichCategoryCodesByWelfareInfo(profile, codes);
+        return codes;
+    }
+
+    /**
+     * 복지정보(welfareInfo) 기반으로 카테고리 코드 확장
+     */
+    public void enrichCategoryCodesByWelfareInfo(UserProfile profile, Set<String> codes) {
+        if (profile == null) return;
+
+        String incomeLevel = profile.getIncomeLevel();
+        if ("basic".equalsIgnoreCase(incomeLevel) || "near".equalsIgnoreCase(incomeLevel)) {
+            codes.add("FINANCE");
+            codes.add("LOCAL");
+        }
+
+        if (Boolean.TRUE.equals(profile.getHasDisability())) {
+            codes.add("SENIOR");
+            codes.add("LOCAL");
+        }
+
+        if (Boolean.TRUE.equals(profile.getLivingAlone())) {
+            codes.add("LOCAL");
+        }
+
+        if (profile.getAge() != null && profile.getAge() >= 65) {
+            codes.add("SENIOR");
+        }
+    }
+}
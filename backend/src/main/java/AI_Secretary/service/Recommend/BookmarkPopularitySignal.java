@@ -0,0 +1,25 @@
+package AI_Secretary.service.Recommend;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 북마크 인기도 (log 스케일, 가장 많이 저장된 정책이 1)
+ */
+@Component
+public class BookmarkPopularitySignal implements RecommendationSignal {
+
+    @Override
+    public String name() {
+        return "popularity";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 0.5;
+    }
+
+    @Override
+    public double score(PolicyFeatureSnapshot f, int ord, UserFeatures user) {
+        return f.popularity[ord];
+    }
+}
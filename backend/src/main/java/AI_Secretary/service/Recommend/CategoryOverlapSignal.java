@@ -0,0 +1,29 @@
+package AI_Secretary.service.Recommend;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 선호 카테고리와 정책 카테고리(mainCategory + policy_categories)가 얼마나 겹치는지
+ * - 겹친 수 / min(선호 수, 정책 카테고리 수) → 정책 카테고리가 전부 선호 안에 있거나 선호를 전부 덮으면 1
+ */
+@Component
+public class CategoryOverlapSignal implements RecommendationSignal {
+
+    @Override
+    public String name() {
+        return "category";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 3.0;
+    }
+
+    @Override
+    public double score(PolicyFeatureSnapshot f, int ord, UserFeatures user) {
+        long policyMask = f.categoryMask[ord];
+        if (user.categoryCount() == 0 || policyMask == 0) return 0;
+        int overlap = Long.bitCount(policyMask & user.categoryMask());
+        return (double) overlap / Math.min(user.categoryCount(), Long.bitCount(policyMask));
+    }
+}
@@ -0,0 +1,34 @@
+package AI_Secretary.service.Recommend;
+
+import org.springframework.stereotype.Component;
+
+import static AI_Secretary.service.Recommend.PolicyFeatureSnapshot.NO_END_DATE;
+
+/**
+ * 마감 임박도: 마감이 가까울수록 1 에 가깝게 (30일 남으면 0.5), 상시 정책은 0.2
+ */
+@Component
+public class DeadlineProximitySignal implements RecommendationSignal {
+
+    private static final double HALF_LIFE_DAYS = 30.0;
+    private static final double ALWAYS_OPEN = 0.2;
+
+    @Override
+    public String name() {
+        return "deadline";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 1.0;
+    }
+
+    @Override
+    public double score(PolicyFeatureSnapshot f, int ord, UserFeatures user) {
+        int end = f.endEpochDay[ord];
+        if (end == NO_END_DATE) return ALWAYS_OPEN;
+        int daysLeft = end - user.todayEpochDay();
+        if (daysLeft < 0) return 0;
+        return 1.0 / (1.0 + daysLeft / HALF_LIFE_DAYS);
+    }
+}
@@ -0,0 +1,28 @@
+package AI_Secretary.service.Recommend;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 생애주기(lifeCycle) ↔ 사용자 나이 일치 여부
+ * - 둘 중 하나라도 정보가 없으면 중립 0.5
+ */
+@Component
+public class LifeCycleMatchSignal implements RecommendationSignal {
+
+    @Override
+    public String name() {
+        return "lifecycle";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 1.5;
+    }
+
+    @Override
+    public double score(PolicyFeatureSnapshot f, int ord, UserFeatures user) {
+        int policyMask = f.lifeStageMask[ord];
+        if (policyMask == 0 || user.lifeStageMask() == 0) return 0.5;
+        return (policyMask & user.lifeStageMask()) != 0 ? 1.0 : 0.0;
+    }
+}
@@ -0,0 +1,51 @@
+package AI_Secretary.service.Recommend;
+
+/**
+ * 생애주기 (정책 lifeCycle 문자열 ↔ 사용자 나이)
+ * - 정책 쪽은 "청년,중장년" 처럼 여러 개가 들어 있을 수 있어서 비트마스크로 다룸
+ */
+public enum LifeStage {
+    INFANT("영유아", 0, 5),
+    CHILD("아동", 6, 12),
+    TEEN("청소년", 13, 18),
+    YOUTH("청년", 19, 39),
+    MIDDLE("중장년", 40, 64),
+    SENIOR("노년", 65, Integer.MAX_VALUE);
+
+    private final String keyword;
+    private final int minAge;
+    private final int maxAge;
+
+    LifeStage(String keyword, int minAge, int maxAge) {
+        this.keyword = keyword;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 정책 lifeCycle 문자열 → 마스크 (정보 없으면 0)
+     */
+    public static int maskOf(String lifeCycle) {
+        if (lifeCycle == null || lifeCycle.isBlank()) return 0;
+        int mask = 0;
+        for (LifeStage s : values()) {
+            if (lifeCycle.contains(s.keyword)) mask |= s.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 사용자 나이 → 마스크 (나이 모르면 0)
+     */
+    public static int maskOfAge(Integer age) {
+        if (age == null || age < 0) return 0;
+        for (LifeStage s : values()) {
+            if (age >= s.minAge && age <= s.maxAge) return s.bit();
+        }
+        return 0;
+    }
+}
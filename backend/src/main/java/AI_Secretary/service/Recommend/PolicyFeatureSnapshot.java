@@ -0,0 +1,136 @@
+package AI_Secretary.service.Recommend;
+
+import AI_Secretary.service.Search.PolicyDocument;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 추천 점수용 정책 특징을 열(column) 단위 primitive 배열로 펼친 읽기 전용 스냅샷
+ *
+ * - ordinal i 번째 정책의 특징 = 각 배열의 i 번째 값
+ * - 문자열(지역, 카테고리)은 미리 int id / 비트로 바꿔 둬서 점수 계산 중에는 비교만 함
+ * - 카테고리는 최대 64개까지 비트마스크 (넘는 코드는 점수에서 무시)
+ */
+public final class PolicyFeatureSnapshot {
+
+    public static final int NO_ID = -1;
+    public static final int NO_MATCH = -2;   // 사용자 값은 있는데 그 값을 가진 정책이 하나도 없음
+    public static final int NO_END_DATE = Integer.MAX_VALUE;
+
+    static final PolicyFeatureSnapshot EMPTY = build(List.of(), Map.of(), Map.of());
+
+    public final PolicyDocument[] docs;
+    public final long[] categoryMask;     // mainCategory + policy_categories
+    public final int[] ctpvId;            // NO_ID: 전국(지역 제한 없음)
+    public final int[] sggId;             // NO_ID: 시/도 전체
+    public final int[] endEpochDay;       // NO_END_DATE: 상시
+    public final int[] lifeStageMask;     // 0: 생애주기 정보 없음
+    public final float[] popularity;      // 0~1 (북마크 수 log 스케일 정규화)
+
+    private final Map<String, Integer> categoryBits;
+    private final Map<String, Integer> ctpvIds;
+    private final Map<String, Integer> sggIds;
+
+    private PolicyFeatureSnapshot(int size,
+                                  Map<String, Integer> categoryBits,
+                                  Map<String, Integer> ctpvIds,
+                                  Map<String, Integer> sggIds) {
+        this.docs = new PolicyDocument[size];
+        this.categoryMask = new long[size];
+        this.ctpvId = new int[size];
+        this.sggId = new int[size];
+        this.endEpochDay = new int[size];
+        this.lifeStageMask = new int[size];
+        this.popularity = new float[size];
+        this.categoryBits = categoryBits;
+        this.ctpvIds = ctpvIds;
+        this.sggIds = sggIds;
+    }
+
+    public int size() {
+        return docs.length;
+    }
+
+    /**
+     * @param categoryCodes  정책 id → policy_categories 코드들
+     * @param bookmarkCounts 정책 id → 북마크 수
+     */
+    static PolicyFeatureSnapshot build(Collection<PolicyDocument> documents,
+                                       Map<Long, List<String>> categoryCodes,
+                                       Map<Long, Long> bookmarkCounts) {
+        Map<String, Integer> categoryBits = new HashMap<>();
+        Map<String, Integer> ctpvIds = new HashMap<>();
+        Map<String, Integer> sggIds = new HashMap<>();
+
+        long maxBookmarks = 0;
+        for (PolicyDocument d : documents) {
+            maxBookmarks = Math.max(maxBookmarks, bookmarkCounts.getOrDefault(d.id(), 0L));
+        }
+        double popularityScale = Math.log1p(maxBookmarks);
+
+        PolicyFeatureSnapshot s = new PolicyFeatureSnapshot(documents.size(), categoryBits, ctpvIds, sggIds);
+        int i = 0;
+        for (PolicyDocument d : documents) {
+            s.docs[i] = d;
+
+            long mask = bitOf(categoryBits, d.mainCategoryCode(), true);
+            for (String code : categoryCodes.getOrDefault(d.id(), List.of())) {
+                mask |= bitOf(categoryBits, code, true);
+            }
+            s.categoryMask[i] = mask;
+
+            s.ctpvId[i] = idOf(ctpvIds, d.regionCtpv(), true);
+            s.sggId[i] = idOf(sggIds, d.regionSgg(), true);
+            s.endEpochDay[i] = d.endDate() != null ? (int) d.endDate().toEpochDay() : NO_END_DATE;
+            s.lifeStageMask[i] = LifeStage.maskOf(d.lifeCycle());
+
+            long bookmarks = bookmarkCounts.getOrDefault(d.id(), 0L);
+            s.popularity[i] = popularityScale > 0 ? (float) (Math.log1p(bookmarks) / popularityScale) : 0f;
+            i++;
+        }
+        return s;
+    }
+
+    /**
+     * 사용자 조건을 이 스냅샷의 id/비트 체계로 변환
+     */
+    public UserFeatures userFeatures(String regionCtpv, String regionSgg, Integer age,
+                                     Collection<String> preferredCodes, LocalDate today) {
+        long mask = 0;
+        for (String code : preferredCodes) {
+            mask |= bitOf(categoryBits, code, false);
+        }
+        return new UserFeatures(
+                mask,
+                Long.bitCount(mask),
+                idOf(ctpvIds, regionCtpv, false),
+                idOf(sggIds, regionSgg, false),
+                LifeStage.maskOfAge(age),
+                (int) today.toEpochDay()
+        );
+    }
+
+    private static long bitOf(Map<String, Integer> bits, String code, boolean assign) {
+        if (code == null || code.isBlank()) return 0L;
+        Integer bit = bits.get(code);
+        if (bit == null) {
+            if (!assign || bits.size() >= Long.SIZE) return 0L;
+            bit = bits.size();
+            bits.put(code, bit);
+        }
+        return 1L << bit;
+    }
+
+    private static int idOf(Map<String, Integer> ids, String value, boolean assign) {
+        if (value == null || value.isBlank()) return NO_ID;
+        String key = value.trim();
+        Integer id = ids.get(key);
+        if (id == null) {
+            if (!assign) return NO_MATCH;
+            id = ids.size();
+            ids.put(key, id);
+        }
+        return id;
+    }
+}
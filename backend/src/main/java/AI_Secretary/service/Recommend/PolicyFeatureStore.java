@@ -0,0 +1,69 @@
+package AI_Secretary.service.Recommend;
+
+import AI_Secretary.service.Search.PolicyDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 추천 특징 스냅샷 보관소
+ * - 원본(정책 스냅샷, 카테고리 코드, 북마크 수)을 들고 있다가 변경이 들어오면 새 스냅샷을 만들어 통째로 교체
+ *   (정책 수천 건 기준 재구성은 수 ms, 읽는 쪽은 락 없이 volatile 참조만 읽음)
+ */
+@Slf4j
+@Component
+public class PolicyFeatureStore {
+
+    private final Map<Long, PolicyDocument> documents = new LinkedHashMap<>();
+    private final Map<Long, List<String>> categoryCodes = new HashMap<>();
+    private Map<Long, Long> bookmarkCounts = Map.of();
+
+    private volatile PolicyFeatureSnapshot snapshot = PolicyFeatureSnapshot.EMPTY;
+    private volatile boolean ready = false;
+
+    public synchronized void rebuild(Collection<PolicyDocument> docs,
+                                     Map<Long, List<String>> codes,
+                                     Map<Long, Long> bookmarks) {
+        documents.clear();
+        categoryCodes.clear();
+        for (PolicyDocument d : docs) {
+            documents.put(d.id(), d);
+        }
+        categoryCodes.putAll(codes);
+        bookmarkCounts = bookmarks;
+        publish();
+        ready = true;
+        log.info("[PolicyFeatureStore] rebuilt. policies={}", snapshot.size());
+    }
+
+    /**
+     * 변경된 정책들 반영 (codes 는 해당 정책들의 policy_categories 코드)
+     */
+    public synchronized void upsert(Collection<PolicyDocument> docs, Map<Long, List<String>> codes) {
+        if (docs.isEmpty()) return;
+        for (PolicyDocument d : docs) {
+            documents.put(d.id(), d);
+            categoryCodes.put(d.id(), codes.getOrDefault(d.id(), List.of()));
+        }
+        publish();
+    }
+
+    public synchronized void remove(Long policyId) {
+        if (documents.remove(policyId) == null) return;
+        categoryCodes.remove(policyId);
+        publish();
+    }
+
+    public PolicyFeatureSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void publish() {
+        snapshot = PolicyFeatureSnapshot.build(documents.values(), categoryCodes, bookmarkCounts);
+    }
+}
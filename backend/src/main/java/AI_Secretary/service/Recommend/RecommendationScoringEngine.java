@@ -0,0 +1,89 @@
+package AI_Secretary.service.Recommend;
+
+import AI_Secretary.config.RecommendationProperties;
+import AI_Secretary.service.Search.PolicyDocument;
+import AI_Secretary.util.TopKSelector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static AI_Secretary.service.Recommend.PolicyFeatureSnapshot.NO_ID;
+
+/**
+ * 가중합 추천 점수 엔진
+ *
+ * - 점수 = Σ 가중치(policy.recommendation.signal-weights) × 신호(0~1)
+ *   신호는 RecommendationSignal 빈으로 등록된 것 전부 (카테고리, 지역, 마감, 생애주기, 인기도 ...)
+ * - 후보: 전국 정책 + 사용자 시/도 정책 중 마감 안 지난 것
+ * - 후보 루프 안에서는 객체를 만들지 않음 (스냅샷 배열 + primitive 연산 + TopKSelector)
+ */
+@Slf4j
+@Component
+public class RecommendationScoringEngine {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PolicyFeatureStore featureStore;
+    private final RecommendationSignal[] signals;
+    private final double[] weights;
+
+    public RecommendationScoringEngine(PolicyFeatureStore featureStore,
+                                       List<RecommendationSignal> signals,
+                                       RecommendationProperties properties) {
+        this.featureStore = featureStore;
+
+        List<RecommendationSignal> active = new ArrayList<>();
+        List<Double> activeWeights = new ArrayList<>();
+        for (RecommendationSignal signal : signals) {
+            double weight = properties.getSignalWeights().getOrDefault(signal.name(), signal.defaultWeight());
+            if (weight == 0) continue;   // 가중치 0 은 아예 계산하지 않음
+            active.add(signal);
+            activeWeights.add(weight);
+        }
+        this.signals = active.toArray(new RecommendationSignal[0]);
+        this.weights = activeWeights.stream().mapToDouble(Double::doubleValue).toArray();
+        log.info("[RecommendationScoringEngine] signals={}, weights={}",
+                active.stream().map(RecommendationSignal::name).toList(), activeWeights);
+    }
+
+    public boolean isReady() {
+        return featureStore.isReady();
+    }
+
+    /**
+     * @return 점수 높은 순 최대 limit 건
+     */
+    public List<PolicyDocument> recommend(String regionCtpv, String regionSgg, Integer age,
+                                          Collection<String> preferredCodes, int limit) {
+        PolicyFeatureSnapshot f = featureStore.snapshot();
+        UserFeatures user = f.userFeatures(regionCtpv, regionSgg, age, preferredCodes, LocalDate.now(KOREA_ZONE));
+
+        TopKSelector topK = new TopKSelector(limit);
+        for (int ord = 0; ord < f.size(); ord++) {
+            if (!isCandidate(f, ord, user)) continue;
+            double score = 0;
+            for (int s = 0; s < signals.length; s++) {
+                score += weights[s] * signals[s].score(f, ord, user);
+            }
+            topK.offer(score, ord);
+        }
+
+        int[] ranked = topK.drainDescending();
+        List<PolicyDocument> result = new ArrayList<>(ranked.length);
+        for (int ord : ranked) {
+            result.add(f.docs[ord]);
+        }
+        return result;
+    }
+
+    private static boolean isCandidate(PolicyFeatureSnapshot f, int ord, UserFeatures user) {
+        if (f.endEpochDay[ord] < user.todayEpochDay()) return false;
+        int ctpv = f.ctpvId[ord];
+        return ctpv == NO_ID || user.ctpvId() == NO_ID || ctpv == user.ctpvId();
+    }
+}
@@ -0,0 +1,18 @@
+package AI_Secretary.service.Recommend;
+
+/**
+ * 추천 점수 신호 하나 (빈으로 등록하면 엔진이 자동으로 합산)
+ * - 후보마다 호출되므로 객체를 만들지 말고 스냅샷 배열만 읽을 것
+ * - 반환값은 0~1, 엔진이 policy.recommendation.signal-weights.{name} 가중치를 곱해서 더함
+ */
+public interface RecommendationSignal {
+
+    String name();
+
+    /**
+     * 설정에 가중치가 없을 때 쓰는 기본값
+     */
+    double defaultWeight();
+
+    double score(PolicyFeatureSnapshot features, int ordinal, UserFeatures user);
+}
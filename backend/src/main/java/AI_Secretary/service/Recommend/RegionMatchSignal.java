@@ -0,0 +1,35 @@
+package AI_Secretary.service.Recommend;
+
+import org.springframework.stereotype.Component;
+
+import static AI_Secretary.service.Recommend.PolicyFeatureSnapshot.NO_ID;
+
+/**
+ * 지역 일치도 (시/도 → 시/군/구 순으로 좁을수록 높게)
+ * - 시/군/구까지 일치 1.0, 시/도 전체 대상 0.8, 전국 0.5, 같은 시/도의 다른 시/군/구 0.1
+ * - 다른 시/도 정책은 엔진에서 후보로 올리지 않음
+ */
+@Component
+public class RegionMatchSignal implements RecommendationSignal {
+
+    @Override
+    public String name() {
+        return "region";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 2.0;
+    }
+
+    @Override
+    public double score(PolicyFeatureSnapshot f, int ord, UserFeatures user) {
+        int ctpv = f.ctpvId[ord];
+        if (ctpv == NO_ID || user.ctpvId() == NO_ID) return 0.5;
+        if (ctpv != user.ctpvId()) return 0;
+
+        int sgg = f.sggId[ord];
+        if (sgg == NO_ID) return 0.8;
+        return sgg == user.sggId() ? 1.0 : 0.1;
+    }
+}
@@ -0,0 +1,20 @@
+package AI_Secretary.service.Recommend;
+
+/**
+ * 추천 점수 계산용 사용자 특징 (사용자당 한 번 만들고 후보 수천 개에 재사용)
+ *
+ * @param categoryMask   선호 카테고리 비트마스크 (PolicyFeatureSnapshot 의 카테고리 비트 기준)
+ * @param categoryCount  선호 카테고리 수
+ * @param ctpvId         시/도 사전 id (-1: 모름)
+ * @param sggId          시/군/구 사전 id (-1: 모름)
+ * @param lifeStageMask  나이로 정한 생애주기 (0: 모름)
+ * @param todayEpochDay  오늘 (마감 임박도 계산 기준)
+ */
+public record UserFeatures(
+        long categoryMask,
+        int categoryCount,
+        int ctpvId,
+        int sggId,
+        int lifeStageMask,
+        int todayEpochDay
+) {}
@@ -0,0 +1,19 @@
+package AI_Secretary.service.Search;
+
+import AI_Secretary.DTO.SearchDTO.PolicyFacetCount;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 검색 결과
+ *
+ * @param ranked 필터까지 적용된 결과 중 상위 limit 건 (관련도순, 키워드 없으면 최근 수정순)
+ * @param total  필터까지 적용된 전체 건수
+ * @param facets 패싯별 값 건수 (각 패싯은 자기 자신을 뺀 나머지 필터만 적용해서 셈)
+ */
+public record FacetedHits(
+        List<PolicyDocument> ranked,
+        int total,
+        Map<String, List<PolicyFacetCount>> facets
+) {}
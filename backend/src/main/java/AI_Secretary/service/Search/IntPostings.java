@@ -0,0 +1,96 @@
+package AI_Secretary.service.Search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int(정책 ordinal) 배열 기반 posting list
+ * - 새 정책은 항상 가장 큰 ordinal 을 받으므로 대부분 append 로 끝남
+ * - 박싱 없는 교집합 계산용
+ * - ordinal 마다 필드별 출현 횟수(tf)를 int 하나에 8bit 씩 묶어 같이 보관 (BM25 용)
+ */
+final class IntPostings {
+
+    private int[] ordinals = new int[4];
+    private int[] freqs = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int get(int index) {
+        return ordinals[index];
+    }
+
+    void add(int ordinal, int packedFreq) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos >= 0) {
+            freqs[pos] = packedFreq;
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+        System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+        ordinals[insertAt] = ordinal;
+        freqs[insertAt] = packedFreq;
+        size++;
+    }
+
+    void remove(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+        System.arraycopy(freqs, pos + 1, freqs, pos, size - pos - 1);
+        size--;
+    }
+
+    boolean contains(int ordinal) {
+        return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    /**
+     * 필드별 tf 묶음 (없으면 0)
+     */
+    int packedFreqOf(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        return pos >= 0 ? freqs[pos] : 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ordinals, size);
+    }
+
+    /**
+     * candidates(정렬됨) 중 이 posting 에도 있는 것만 남김
+     */
+    int[] retainAll(int[] candidates) {
+        int[] out = new int[Math.min(candidates.length, size)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < candidates.length && j < size) {
+            int a = candidates[i];
+            int b = ordinals[j];
+            if (a == b) {
+                out[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
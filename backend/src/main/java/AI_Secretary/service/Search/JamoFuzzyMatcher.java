@@ -0,0 +1,83 @@
+package AI_Secretary.service.Search;
+
+import AI_Secretary.util.HangulJamo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 오타 허용 검색용 자모 단위 도구
+ *
+ * - 정책명/검색어를 자모로 풀어서 자모 2-gram 으로 색인
+ * - 후보 걸러내기: q-gram 보조정리 (편집 1회는 gram 최대 2개만 깨뜨림)
+ *   → 검색어 gram 중 (개수 - 허용편집수 * 2) 개 이상이 들어 있어야 후보
+ * - 최종 확인: 검색어가 이름의 "어딘가"와 k번 이하 편집으로 맞는지 (Sellers 근사 부분문자열 거리)
+ */
+final class JamoFuzzyMatcher {
+
+    static final int GRAM = 2;
+
+    // 자모 4개 미만(대략 1음절)은 오타 보정 의미가 없어서 제외
+    static final int MIN_QUERY_JAMO = 4;
+
+    private JamoFuzzyMatcher() {
+    }
+
+    static String toJamo(String normalized) {
+        return HangulJamo.decompose(normalized);
+    }
+
+    static Set<String> grams(String jamo) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= jamo.length(); i++) {
+            grams.add(jamo.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 길이(자모 수)별 허용 편집 횟수
+     * - 2음절 안팎: 1회, 3~4음절: 2회, 그 이상: 3회
+     */
+    static int maxEdits(int queryJamoLength) {
+        if (queryJamoLength < 7) return 1;
+        if (queryJamoLength < 13) return 2;
+        return 3;
+    }
+
+    /**
+     * 후보가 되려면 최소로 겹쳐야 하는 검색어 gram 수 (0 이하면 필터로 못 씀)
+     */
+    static int minSharedGrams(int distinctQueryGrams, int maxEdits) {
+        return distinctQueryGrams - maxEdits * GRAM;
+    }
+
+    /**
+     * pattern 이 text 의 부분문자열과 맞는 최소 편집 거리
+     * - maxEdits 를 넘으면 maxEdits + 1 반환
+     * - 완전 일치(0)를 찾으면 바로 종료
+     */
+    static int substringDistance(String pattern, String text, int maxEdits) {
+        int m = pattern.length();
+        if (m == 0) return 0;
+
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int i = 0; i <= m; i++) prev[i] = i;
+
+        int best = prev[m];
+        for (int j = 0; j < text.length() && best > 0; j++) {
+            char tc = text.charAt(j);
+            cur[0] = 0;   // 어느 위치에서든 매칭 시작 가능
+            for (int i = 1; i <= m; i++) {
+                int cost = pattern.charAt(i - 1) == tc ? 0 : 1;
+                cur[i] = Math.min(prev[i - 1] + cost, Math.min(prev[i], cur[i - 1]) + 1);
+            }
+            best = Math.min(best, cur[m]);
+            int[] tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return best <= maxEdits ? best : maxEdits + 1;
+    }
+}
@@ -0,0 +1,82 @@
+package AI_Secretary.service.Search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한국어 문자 단위 n-gram(2, 3글자) 분석기
+ * - 형태소 분석 없이 음절 단위로 자르기 때문에 "노인일자리" 처럼 붙여 쓴 명사도 부분 검색 가능
+ * - 공백은 제거하고 영문은 소문자로 통일 ("기초 연금" == "기초연금")
+ */
+public final class KoreanNGramAnalyzer {
+
+    public static final int MIN_GRAM = 2;
+    public static final int MAX_GRAM = 3;
+
+    private KoreanNGramAnalyzer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인용: 정규화된 문자열의 2-gram, 3-gram 전부 (중복 제거)
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 색인용 + 출현 횟수 (BM25 tf 계산용)
+     */
+    public static Map<String, Integer> indexGramCounts(String normalized) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                counts.merge(normalized.substring(i, i + n), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 검색용: 2글자면 bigram 하나, 3글자 이상이면 trigram 전부
+     * (1글자 검색어는 gram 이 없으므로 빈 리스트 → 호출부에서 전체 스캔)
+     */
+    public static List<String> queryGrams(String normalizedQuery) {
+        int len = normalizedQuery.length();
+        if (len < MIN_GRAM) {
+            return List.of();
+        }
+        if (len < MAX_GRAM) {
+            return List.of(normalizedQuery);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + MAX_GRAM <= len; i++) {
+            grams.add(normalizedQuery.substring(i, i + MAX_GRAM));
+        }
+        return new ArrayList<>(grams);
+    }
+}
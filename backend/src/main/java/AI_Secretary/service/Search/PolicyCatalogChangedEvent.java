@@ -0,0 +1,7 @@
+package AI_Secretary.service.Search;
+
+/**
+ * 인메모리 인덱스에 정책 변경이 반영된 뒤 발행 (전체 재빌드 / 증분 동기화 / 관리자 수정)
+ * - 정책 목록에 의존하는 캐시(사용자별 추천 등)는 이 이벤트로 통째로 무효화
+ */
+public record PolicyCatalogChangedEvent(int changedCount) {}
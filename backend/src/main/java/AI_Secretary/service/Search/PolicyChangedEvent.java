@@ -0,0 +1,18 @@
+package AI_Secretary.service.Search;
+
+/**
+ * 관리자 수정/삭제 등으로 정책 한 건이 바뀌었을 때 발행
+ * - 인메모리 인덱스들이 다음 동기화 주기를 기다리지 않고 바로 반영하도록
+ */
+public record PolicyChangedEvent(
+        Long policyId,
+        boolean deleted
+) {
+    public static PolicyChangedEvent updated(Long policyId) {
+        return new PolicyChangedEvent(policyId, false);
+    }
+
+    public static PolicyChangedEvent deleted(Long policyId) {
+        return new PolicyChangedEvent(policyId, true);
+    }
+}
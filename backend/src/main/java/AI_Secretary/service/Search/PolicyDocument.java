@@ -0,0 +1,52 @@
+package AI_Secretary.service.Search;
+
+import AI_Secretary.domain.policyData.PolicyData;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 인메모리 인덱스에 올려두는 정책 스냅샷
+ * - 엔티티(LAZY 연관)를 그대로 들고 있지 않기 위해 필요한 값만 복사
+ * - 검색/추천 결과 DTO를 DB 조회 없이 만들 수 있을 만큼만 보관
+ */
+public record PolicyDocument(
+        Long id,
+        String name,
+        String summary,
+        String interestTheme,
+        String lifeCycle,
+        String regionCtpv,
+        String regionSgg,
+        String deptName,
+        String supportCycle,
+        String onapPossible,
+        String mainCategoryCode,
+        String mainCategoryName,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime lastModifiedAt
+) {
+    /**
+     * mainCategory 는 fetch join 된 상태에서 호출해야 함
+     */
+    public static PolicyDocument from(PolicyData p) {
+        return new PolicyDocument(
+                p.getId(),
+                p.getName(),
+                p.getSummary(),
+                p.getInterestTheme(),
+                p.getLifeCycle(),
+                p.getRegionCtpv(),
+                p.getRegionSgg(),
+                p.getDeptName(),
+                p.getSupportCycle(),
+                p.getOnapPossible(),
+                p.getMainCategory() != null ? p.getMainCategory().getCode() : null,
+                p.getMainCategory() != null ? p.getMainCategory().getName() : null,
+                p.getStartDate(),
+                p.getEndDate(),
+                p.getLastModifiedAt()
+        );
+    }
+}
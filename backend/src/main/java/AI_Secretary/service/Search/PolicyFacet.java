@@ -0,0 +1,34 @@
+package AI_Secretary.service.Search;
+
+import java.util.function.Function;
+
+/**
+ * 검색 결과 옆에 건수를 보여줄 패싯 (key 는 요청 파라미터/응답 JSON 이름과 동일)
+ */
+public enum PolicyFacet {
+    CATEGORY("category", PolicyDocument::mainCategoryCode),
+    REGION_CTPV("regionCtpv", PolicyDocument::regionCtpv),
+    REGION_SGG("regionSgg", PolicyDocument::regionSgg),
+    SUPPORT_CYCLE("supportCycle", PolicyDocument::supportCycle),
+    ONAP_POSSIBLE("onapPossible", PolicyDocument::onapPossible);
+
+    private final String key;
+    private final Function<PolicyDocument, String> extractor;
+
+    PolicyFacet(String key, Function<PolicyDocument, String> extractor) {
+        this.key = key;
+        this.extractor = extractor;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * 패싯 값 (비어 있으면 null → 해당 패싯에서 제외)
+     */
+    public String valueOf(PolicyDocument doc) {
+        String v = extractor.apply(doc);
+        return (v == null || v.isBlank()) ? null : v.trim();
+    }
+}
@@ -0,0 +1,165 @@
+package AI_Secretary.service.Search;
+
+import AI_Secretary.config.PolicySearchProperties;
+import AI_Secretary.service.Recommend.PolicyFeatureStore;
+import AI_Secretary.repository.search.PolicyBookmarkRepository;
+import AI_Secretary.repository.search.PolicyCategoryRepository;
+import AI_Secretary.repository.search.PolicyDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * policy_data → 인메모리 검색 / 자동완성 / 추천 후보 인덱스 / 추천 특징 스냅샷 동기화
+ * 1) 기동 시 전체 빌드
+ * 2) 주기적으로 lastModifiedAt 이후 변경분만 반영
+ * 3) 관리자 수정/삭제는 커밋 직후 이벤트로 즉시 반영
+ * 4) 새벽에 한 번 전체 재빌드 (크롤러가 직접 지운 행, 삭제된 ordinal 정리, 북마크 수 갱신)
+ * 반영이 끝나면 PolicyCatalogChangedEvent 발행 (정책 목록 의존 캐시 무효화용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicyIndexSyncService {
+
+    private final PolicyDataRepository policyDataRepository;
+    private final PolicyBookmarkRepository policyBookmarkRepository;
+    private final PolicyCategoryRepository policyCategoryRepository;
+    private final PolicySearchIndex policySearchIndex;
+    private final PolicySuggestIndex policySuggestIndex;
+    private final RecommendationCandidateIndex recommendationCandidateIndex;
+    private final PolicyFeatureStore policyFeatureStore;
+    private final PolicySearchProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isIndexEnabled()) {
+            log.info("[PolicyIndexSync] index disabled. LIKE 쿼리로 검색합니다.");
+            return;
+        }
+        rebuildAll();
+    }
+
+    /**
+     * 매일 03:30 전체 재빌드 (03:00 정책 변경 감지 배치 이후)
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void nightlyRebuild() {
+        if (!properties.isIndexEnabled()) return;
+        rebuildAll();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${policy.search.sync-interval-ms:60000}",
+            initialDelayString = "${policy.search.sync-interval-ms:60000}"
+    )
+    public synchronized void syncChanged() {
+        if (!properties.isIndexEnabled() || !policySearchIndex.isReady()) return;
+
+        LocalDateTime since = policySearchIndex.latestModifiedAt();
+        if (since == null) {
+            // lastModifiedAt 이 전부 null 이면 증분 기준이 없으니 전체 재빌드에 맡김
+            return;
+        }
+
+        // since 와 같은 시각에 늦게 커밋된 행도 놓치지 않도록 >= 로 조회하고,
+        // 인덱스에 이미 같은 lastModifiedAt 으로 들어 있는 문서(최소한 since 시각의 최신 정책)는 건너뜀
+        List<PolicyDocument> changed = policyDataRepository.findChangedSinceWithCategory(since)
+                .stream()
+                .map(PolicyDocument::from)
+                .filter(this::isNewerThanIndexed)
+                .toList();
+        if (changed.isEmpty()) return;
+
+        upsertIntoIndexes(changed);
+        eventPublisher.publishEvent(new PolicyCatalogChangedEvent(changed.size()));
+        log.debug("[PolicyIndexSync] synced {} changed policies since {}", changed.size(), since);
+    }
+
+    private boolean isNewerThanIndexed(PolicyDocument doc) {
+        return policySearchIndex.findById(doc.id())
+                .map(indexed -> !Objects.equals(indexed.lastModifiedAt(), doc.lastModifiedAt()))
+                .orElse(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (!properties.isIndexEnabled() || !policySearchIndex.isReady()) return;
+
+        if (event.deleted()) {
+            removeFromIndexes(event.policyId());
+        } else {
+            policyDataRepository.findByIdWithCategory(event.policyId())
+                    .map(PolicyDocument::from)
+                    .ifPresentOrElse(
+                            doc -> upsertIntoIndexes(List.of(doc)),
+                            () -> removeFromIndexes(event.policyId())
+                    );
+        }
+        eventPublisher.publishEvent(new PolicyCatalogChangedEvent(1));
+    }
+
+    private void upsertIntoIndexes(List<PolicyDocument> docs) {
+        for (PolicyDocument doc : docs) {
+            policySearchIndex.upsert(doc);
+            policySuggestIndex.upsert(doc);
+            recommendationCandidateIndex.upsert(doc);
+        }
+        // 특징 스냅샷은 묶어서 한 번만 다시 만듦
+        List<Long> ids = docs.stream().map(PolicyDocument::id).toList();
+        policyFeatureStore.upsert(docs, groupCategoryCodes(policyCategoryRepository.findCodesByPolicyIdIn(ids)));
+    }
+
+    private static Map<Long, List<String>> groupCategoryCodes(
+            Collection<PolicyCategoryRepository.PolicyCategoryCode> rows
+    ) {
+        return rows.stream().collect(Collectors.groupingBy(
+                PolicyCategoryRepository.PolicyCategoryCode::getPolicyId,
+                Collectors.mapping(PolicyCategoryRepository.PolicyCategoryCode::getCategoryCode, Collectors.toList())
+        ));
+    }
+
+    private void removeFromIndexes(Long policyId) {
+        policySearchIndex.remove(policyId);
+        policySuggestIndex.remove(policyId);
+        recommendationCandidateIndex.remove(policyId);
+        policyFeatureStore.remove(policyId);
+    }
+
+    private synchronized void rebuildAll() {
+        try {
+            List<PolicyDocument> docs = policyDataRepository.findAllWithCategory()
+                    .stream()
+                    .map(PolicyDocument::from)
+                    .toList();
+            policySearchIndex.rebuild(docs);
+
+            Map<Long, Long> bookmarkCounts = policyBookmarkRepository.countGroupByPolicy()
+                    .stream()
+                    .collect(Collectors.toMap(
+                            PolicyBookmarkRepository.PolicyBookmarkCount::getPolicyId,
+                            PolicyBookmarkRepository.PolicyBookmarkCount::getBookmarkCount
+                    ));
+            policySuggestIndex.rebuild(docs, bookmarkCounts);
+            recommendationCandidateIndex.rebuild(docs);
+            policyFeatureStore.rebuild(docs, groupCategoryCodes(policyCategoryRepository.findAllCodes()), bookmarkCounts);
+            eventPublisher.publishEvent(new PolicyCatalogChangedEvent(docs.size()));
+        } catch (Exception e) {
+            // 인덱스가 없어도 LIKE 쿼리로 동작하므로 기동은 계속
+            log.error("[PolicyIndexSync] 전체 빌드 실패", e);
+        }
+    }
+}
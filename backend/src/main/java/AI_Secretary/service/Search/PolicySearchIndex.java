@@ -0,0 +1,536 @@
+package AI_Secretary.service.Search;
+
+import AI_Secretary.DTO.SearchDTO.PolicyFacetCount;
+import AI_Secretary.util.CompressedBitmap;
+import AI_Secretary.util.TopKSelector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정책 검색용 인메모리 역색인 (2/3-gram → 정책 ordinal posting)
+ *
+ * - 색인 대상: name, summary, interestTheme, deptName
+ * - 정책마다 0부터 증가하는 int ordinal 을 부여하고, 삭제돼도 재사용하지 않음 (전체 재빌드 시에만 압축)
+ * - 검색: 검색어 gram 들의 posting 교집합 → 원문 contains 검증 (LIKE '%kw%' 와 같은 결과, 공백 무시)
+ * - 정렬: BM25F (필드별 tf/길이는 색인 시점에 계산해 둠, 이름 필드 가중치 ↑) → 상위 k개 heap 선택
+ * - 패싯: 패싯 값마다 ordinal 압축 비트셋을 유지 → 검색 hit 집합과 교집합해서 건수/필터 결과 계산
+ * - 오타 허용 검색: 정책명만 자모 2-gram 으로 따로 색인 → 편집 거리로 검증 (JamoFuzzyMatcher)
+ * - 읽기는 동시에, 증분 갱신은 write lock 으로 직렬화
+ */
+@Slf4j
+@Component
+public class PolicySearchIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드 순서: name, summary, interestTheme, deptName
+    private static final int FIELD_COUNT = 4;
+    private static final double[] FIELD_WEIGHTS = {3.0, 1.0, 1.5, 1.0};
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready = false;
+
+    // --------------------------------------------------------------------
+    // 색인
+    // --------------------------------------------------------------------
+
+    /**
+     * 전체 재빌드: 새 State 를 락 밖에서 만든 뒤 교체
+     */
+    public void rebuild(Collection<PolicyDocument> documents) {
+        State fresh = new State();
+        for (PolicyDocument doc : documents) {
+            fresh.upsert(doc);
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[PolicySearchIndex] rebuilt. docs={}, grams={}", fresh.liveCount, fresh.postings.size());
+    }
+
+    public void upsert(PolicyDocument doc) {
+        lock.writeLock().lock();
+        try {
+            state.upsert(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long policyId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(policyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --------------------------------------------------------------------
+    // 조회
+    // --------------------------------------------------------------------
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 증분 동기화 기준 시각 (색인된 정책 중 가장 최근 lastModifiedAt)
+     */
+    public LocalDateTime latestModifiedAt() {
+        lock.readLock().lock();
+        try {
+            return state.maxModifiedAt;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<PolicyDocument> findById(Long policyId) {
+        lock.readLock().lock();
+        try {
+            Integer ord = state.ordinalById.get(policyId);
+            return ord == null ? Optional.empty() : Optional.of(state.entries.get(ord).doc());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (BM25 점수순, 최대 limit 건)
+     * - keyword 가 비어 있으면 최근 수정순 목록
+     */
+    public List<PolicyDocument> search(String keyword, int limit) {
+        String q = KoreanNGramAnalyzer.normalize(keyword);
+        TopKSelector topK = new TopKSelector(limit);
+
+        lock.readLock().lock();
+        try {
+            if (q.isEmpty()) {
+                for (int ord = 0; ord < state.entries.size(); ord++) {
+                    Entry e = state.entries.get(ord);
+                    if (e != null) topK.offer(recencyScore(e.doc()), ord);
+                }
+            } else {
+                state.scoreMatches(q, topK::offer);
+            }
+
+            int[] ranked = topK.drainDescending();
+            List<PolicyDocument> result = new ArrayList<>(ranked.length);
+            for (int ord : ranked) {
+                result.add(state.entries.get(ord).doc());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 필터 + 건수를 포함한 검색
+     *
+     * @param filters 패싯별 선택 값 (값이 비어 있으면 필터 없음)
+     */
+    public FacetedHits searchFaceted(String keyword, Map<PolicyFacet, String> filters, int limit) {
+        String q = KoreanNGramAnalyzer.normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            // 1) 키워드 hit 집합 (+ 점수)
+            CompressedBitmap hits;
+            double[] scores;
+            if (q.isEmpty()) {
+                hits = state.live;
+                scores = null;
+            } else {
+                CompressedBitmap matched = new CompressedBitmap();
+                double[] matchedScores = new double[state.entries.size()];
+                state.scoreMatches(q, (score, ord) -> {
+                    matched.add(ord);
+                    matchedScores[ord] = score;
+                });
+                hits = matched;
+                scores = matchedScores;
+            }
+
+            // 2) 선택된 필터의 비트셋
+            Map<PolicyFacet, CompressedBitmap> selected = new EnumMap<>(PolicyFacet.class);
+            filters.forEach((facet, value) -> {
+                if (value == null || value.isBlank()) return;
+                CompressedBitmap bm = state.facetBitmaps.get(facet).get(value.trim());
+                selected.put(facet, bm != null ? bm : new CompressedBitmap());
+            });
+
+            // 3) 필터 전부 적용한 결과 → top-k
+            CompressedBitmap filtered = hits;
+            for (CompressedBitmap bm : selected.values()) {
+                filtered = filtered.and(bm);
+            }
+            TopKSelector topK = new TopKSelector(limit);
+            filtered.forEach(ord -> topK.offer(
+                    scores != null ? scores[ord] : recencyScore(state.entries.get(ord).doc()), ord));
+
+            List<PolicyDocument> ranked = new ArrayList<>();
+            for (int ord : topK.drainDescending()) {
+                ranked.add(state.entries.get(ord).doc());
+            }
+
+            // 4) 패싯별 건수 (자기 패싯 필터는 빼고 계산 → 다른 값으로 바꿨을 때 건수)
+            Map<String, List<PolicyFacetCount>> facets = new LinkedHashMap<>();
+            for (PolicyFacet facet : PolicyFacet.values()) {
+                CompressedBitmap base = hits;
+                for (Map.Entry<PolicyFacet, CompressedBitmap> e : selected.entrySet()) {
+                    if (e.getKey() != facet) base = base.and(e.getValue());
+                }
+                facets.put(facet.key(), state.countFacet(facet, base));
+            }
+
+            return new FacetedHits(ranked, filtered.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 오타 허용 검색 (정책명 기준, 편집 거리 작은 순 → 이름 짧은 순, 최대 limit 건)
+     * - 정확 검색 결과가 없을 때 보조로 쓰는 용도
+     */
+    public List<PolicyDocument> searchFuzzy(String keyword, int limit) {
+        String queryJamo = JamoFuzzyMatcher.toJamo(KoreanNGramAnalyzer.normalize(keyword));
+        if (queryJamo.length() < JamoFuzzyMatcher.MIN_QUERY_JAMO) {
+            return List.of();
+        }
+        TopKSelector topK = new TopKSelector(limit);
+
+        lock.readLock().lock();
+        try {
+            state.scoreFuzzyMatches(queryJamo, topK);
+
+            int[] ranked = topK.drainDescending();
+            List<PolicyDocument> result = new ArrayList<>(ranked.length);
+            for (int ord : ranked) {
+                result.add(state.entries.get(ord).doc());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double recencyScore(PolicyDocument doc) {
+        LocalDateTime t = doc.lastModifiedAt();
+        return t == null ? Double.NEGATIVE_INFINITY : t.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // --------------------------------------------------------------------
+    // 내부 구조
+    // --------------------------------------------------------------------
+
+    /**
+     * @param fields       정규화된 name, summary, interestTheme, deptName
+     * @param fieldLengths 필드별 gram 개수 (BM25 길이 정규화용)
+     * @param nameJamo     자모로 푼 정책명 (오타 허용 검색용)
+     */
+    private record Entry(PolicyDocument doc, String[] fields, int[] fieldLengths, String nameJamo) {
+
+        boolean matches(String normalizedQuery) {
+            for (String f : fields) {
+                if (f.contains(normalizedQuery)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * gram → 필드별 tf 를 8bit 씩 묶은 값 (tf 는 255 에서 자름)
+         */
+        Map<String, Integer> packedFreqs() {
+            Map<String, Integer> packed = new HashMap<>();
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                int shift = f * 8;
+                KoreanNGramAnalyzer.indexGramCounts(fields[f]).forEach((gram, tf) ->
+                        packed.merge(gram, Math.min(tf, 0xFF) << shift, Integer::sum));
+            }
+            return packed;
+        }
+
+        static Entry of(PolicyDocument doc) {
+            String[] fields = {
+                    KoreanNGramAnalyzer.normalize(doc.name()),
+                    KoreanNGramAnalyzer.normalize(doc.summary()),
+                    KoreanNGramAnalyzer.normalize(doc.interestTheme()),
+                    KoreanNGramAnalyzer.normalize(doc.deptName())
+            };
+            int[] lengths = new int[FIELD_COUNT];
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                lengths[f] = gramCount(fields[f].length());
+            }
+            return new Entry(doc, fields, lengths, JamoFuzzyMatcher.toJamo(fields[0]));
+        }
+
+        private static int gramCount(int len) {
+            int count = 0;
+            for (int n = KoreanNGramAnalyzer.MIN_GRAM; n <= KoreanNGramAnalyzer.MAX_GRAM; n++) {
+                count += Math.max(0, len - n + 1);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 점수 계산 결과를 받는 쪽 (TopKSelector::offer 또는 패싯용 hit 수집)
+     */
+    @FunctionalInterface
+    private interface ScoreSink {
+        void accept(double score, int ordinal);
+    }
+
+    private static final class State {
+        final Map<Long, Integer> ordinalById = new HashMap<>();
+        final List<Entry> entries = new ArrayList<>();   // index = ordinal, 삭제된 자리는 null
+        final Map<String, IntPostings> postings = new HashMap<>();
+        final Map<String, IntPostings> jamoPostings = new HashMap<>();   // 자모 2-gram → 정책명 posting
+        final long[] totalFieldLengths = new long[FIELD_COUNT];
+        final CompressedBitmap live = new CompressedBitmap();
+        final Map<PolicyFacet, Map<String, CompressedBitmap>> facetBitmaps = new EnumMap<>(PolicyFacet.class);
+        final Map<String, String> categoryNames = new HashMap<>();   // 카테고리 code → 이름 (패싯 label)
+        int liveCount;
+        LocalDateTime maxModifiedAt;
+
+        State() {
+            for (PolicyFacet facet : PolicyFacet.values()) {
+                facetBitmaps.put(facet, new HashMap<>());
+            }
+        }
+
+        void upsert(PolicyDocument doc) {
+            Integer ord = ordinalById.get(doc.id());
+            if (ord == null) {
+                ord = entries.size();
+                entries.add(null);
+                ordinalById.put(doc.id(), ord);
+                liveCount++;
+            } else {
+                unindex(ord);
+            }
+
+            Entry entry = Entry.of(doc);
+            entries.set(ord, entry);
+            final int ordinal = ord;
+            entry.packedFreqs().forEach((gram, packed) ->
+                    postings.computeIfAbsent(gram, g -> new IntPostings()).add(ordinal, packed));
+            for (String gram : JamoFuzzyMatcher.grams(entry.nameJamo())) {
+                jamoPostings.computeIfAbsent(gram, g -> new IntPostings()).add(ordinal, 0);
+            }
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                totalFieldLengths[f] += entry.fieldLengths()[f];
+            }
+            live.add(ordinal);
+            for (PolicyFacet facet : PolicyFacet.values()) {
+                String value = facet.valueOf(doc);
+                if (value != null) {
+                    facetBitmaps.get(facet).computeIfAbsent(value, v -> new CompressedBitmap()).add(ordinal);
+                }
+            }
+            if (doc.mainCategoryCode() != null && doc.mainCategoryName() != null) {
+                categoryNames.put(doc.mainCategoryCode(), doc.mainCategoryName());
+            }
+
+            LocalDateTime modifiedAt = doc.lastModifiedAt();
+            if (modifiedAt != null && (maxModifiedAt == null || modifiedAt.isAfter(maxModifiedAt))) {
+                maxModifiedAt = modifiedAt;
+            }
+        }
+
+        void remove(Long policyId) {
+            Integer ord = ordinalById.remove(policyId);
+            if (ord == null) return;
+            unindex(ord);
+            entries.set(ord, null);
+            liveCount--;
+        }
+
+        private void unindex(int ord) {
+            Entry old = entries.get(ord);
+            if (old == null) return;
+            for (String gram : old.packedFreqs().keySet()) {
+                IntPostings p = postings.get(gram);
+                if (p == null) continue;
+                p.remove(ord);
+                if (p.isEmpty()) postings.remove(gram);
+            }
+            for (String gram : JamoFuzzyMatcher.grams(old.nameJamo())) {
+                IntPostings p = jamoPostings.get(gram);
+                if (p == null) continue;
+                p.remove(ord);
+                if (p.isEmpty()) jamoPostings.remove(gram);
+            }
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                totalFieldLengths[f] -= old.fieldLengths()[f];
+            }
+            live.remove(ord);
+            for (PolicyFacet facet : PolicyFacet.values()) {
+                String value = facet.valueOf(old.doc());
+                if (value == null) continue;
+                Map<String, CompressedBitmap> byValue = facetBitmaps.get(facet);
+                CompressedBitmap bm = byValue.get(value);
+                if (bm == null) continue;
+                bm.remove(ord);
+                if (bm.isEmpty()) byValue.remove(value);
+            }
+        }
+
+        /**
+         * base 집합 안에서 패싯 값별 건수 (0건은 제외, 건수 많은 순)
+         */
+        List<PolicyFacetCount> countFacet(PolicyFacet facet, CompressedBitmap base) {
+            List<PolicyFacetCount> counts = new ArrayList<>();
+            if (base.isEmpty()) return counts;
+            facetBitmaps.get(facet).forEach((value, bm) -> {
+                int count = base.andCardinality(bm);
+                if (count == 0) return;
+                String label = facet == PolicyFacet.CATEGORY ? categoryNames.getOrDefault(value, value) : value;
+                counts.add(new PolicyFacetCount(value, label, count));
+            });
+            counts.sort(Comparator.comparingInt(PolicyFacetCount::count).reversed()
+                    .thenComparing(PolicyFacetCount::value));
+            return counts;
+        }
+
+        /**
+         * 후보 추출 → contains 검증 → BM25F 점수 → sink 에 투입
+         */
+        void scoreMatches(String normalizedQuery, ScoreSink sink) {
+            List<String> grams = KoreanNGramAnalyzer.queryGrams(normalizedQuery);
+
+            if (grams.isEmpty()) {
+                // 1글자 검색어: gram 이 없으니 전체 스캔 + 필드 가중치만으로 점수
+                for (int ord = 0; ord < entries.size(); ord++) {
+                    Entry e = entries.get(ord);
+                    if (e == null) continue;
+                    double score = 0;
+                    for (int f = 0; f < FIELD_COUNT; f++) {
+                        if (e.fields()[f].contains(normalizedQuery)) score += FIELD_WEIGHTS[f];
+                    }
+                    if (score > 0) sink.accept(score, ord);
+                }
+                return;
+            }
+
+            IntPostings[] lists = new IntPostings[grams.size()];
+            double[] idf = new double[grams.size()];
+            for (int i = 0; i < lists.length; i++) {
+                IntPostings p = postings.get(grams.get(i));
+                if (p == null) return;
+                lists[i] = p;
+                idf[i] = Math.log(1 + (liveCount - p.size() + 0.5) / (p.size() + 0.5));
+            }
+
+            int[] candidates = intersect(lists);
+            double[] avgLengths = new double[FIELD_COUNT];
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                avgLengths[f] = liveCount > 0 ? Math.max(1.0, (double) totalFieldLengths[f] / liveCount) : 1.0;
+            }
+
+            for (int ord : candidates) {
+                Entry e = entries.get(ord);
+                if (e == null || !e.matches(normalizedQuery)) continue;
+                sink.accept(bm25(e, ord, lists, idf, avgLengths), ord);
+            }
+        }
+
+        /**
+         * 자모 gram 겹침 수로 후보 추출 → 편집 거리 검증 → topK 에 투입
+         * - 겹침 하한이 0 이하(검색어가 짧고 허용 편집이 큼)면 전체 정책명을 검증
+         */
+        void scoreFuzzyMatches(String queryJamo, TopKSelector topK) {
+            int maxEdits = JamoFuzzyMatcher.maxEdits(queryJamo.length());
+            Set<String> grams = JamoFuzzyMatcher.grams(queryJamo);
+            int minShared = JamoFuzzyMatcher.minSharedGrams(grams.size(), maxEdits);
+
+            if (minShared <= 0) {
+                for (int ord = 0; ord < entries.size(); ord++) {
+                    offerFuzzy(ord, queryJamo, maxEdits, topK);
+                }
+                return;
+            }
+
+            int[] shared = new int[entries.size()];
+            for (String gram : grams) {
+                IntPostings p = jamoPostings.get(gram);
+                if (p == null) continue;
+                for (int i = 0; i < p.size(); i++) {
+                    shared[p.get(i)]++;
+                }
+            }
+            for (int ord = 0; ord < shared.length; ord++) {
+                if (shared[ord] >= minShared) {
+                    offerFuzzy(ord, queryJamo, maxEdits, topK);
+                }
+            }
+        }
+
+        private void offerFuzzy(int ord, String queryJamo, int maxEdits, TopKSelector topK) {
+            Entry e = entries.get(ord);
+            if (e == null) return;
+            int distance = JamoFuzzyMatcher.substringDistance(queryJamo, e.nameJamo(), maxEdits);
+            if (distance > maxEdits) return;
+            // 편집 거리가 우선, 같으면 이름이 짧을수록(검색어가 차지하는 비중이 클수록) 앞
+            topK.offer((maxEdits - distance + 1) - e.nameJamo().length() * 1e-4, ord);
+        }
+
+        /**
+         * BM25F: 필드별 tf 를 길이 정규화 + 가중합한 뒤 한 번만 포화(saturation)
+         */
+        private double bm25(Entry e, int ord, IntPostings[] lists, double[] idf, double[] avgLengths) {
+            double score = 0;
+            for (int i = 0; i < lists.length; i++) {
+                int packed = lists[i].packedFreqOf(ord);
+                double weightedTf = 0;
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    int tf = (packed >>> (f * 8)) & 0xFF;
+                    if (tf == 0) continue;
+                    double norm = 1 - B + B * e.fieldLengths()[f] / avgLengths[f];
+                    weightedTf += FIELD_WEIGHTS[f] * tf / norm;
+                }
+                score += idf[i] * (weightedTf * (K1 + 1)) / (weightedTf + K1);
+            }
+            return score;
+        }
+
+        /**
+         * posting 교집합 (작은 posting 부터)
+         */
+        private static int[] intersect(IntPostings[] lists) {
+            IntPostings[] sorted = lists.clone();
+            Arrays.sort(sorted, Comparator.comparingInt(IntPostings::size));
+
+            int[] result = sorted[0].toArray();
+            for (int i = 1; i < sorted.length && result.length > 0; i++) {
+                result = sorted[i].retainAll(result);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package AI_Secretary.service.Search;
+
+import AI_Secretary.DTO.SearchDTO.PolicySuggestionDto;
+import AI_Secretary.util.HangulJamo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색바 자동완성용 인메모리 접두어 인덱스
+ *
+ * - 후보: 정책명, 카테고리명, 부서명
+ * - 키: 공백 제거 + 자모 분해한 문자열 → 입력 중인 글자("기초연ㄱ", "기총")도 접두어로 맞음
+ *   단어 시작 위치마다 키를 하나씩 더 둬서 "돌봄" 으로 "노인 돌봄 서비스" 도 나오게 함
+ * - 구조: 키를 정렬한 배열(트라이의 잎을 사전순으로 편 것과 같음) → 접두어 = 연속 구간(이진 탐색 2번)
+ *   + 구간 최댓값 세그먼트 트리 → 구간 안에서 인기도 상위 k개를 O(k log n) 에 꺼냄
+ * - 인기도: 정책은 1 + 북마크 수, 카테고리/부서는 소속 정책 인기도 합
+ * - 증분 갱신: 바뀐 후보는 dirty 로 표시해 조회 때 따로 합치고, 일정 개수가 쌓이면 배열을 다시 만듦
+ */
+@Slf4j
+@Component
+public class PolicySuggestIndex {
+
+    // dirty 후보가 이만큼 쌓이면 정렬 배열 재생성
+    private static final int COMPACT_THRESHOLD = 256;
+
+    // 정책명 하나당 키를 만들 단어 시작 위치 최대 개수
+    private static final int MAX_WORD_STARTS = 6;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State(Map.of());
+    private volatile boolean ready = false;
+
+    // --------------------------------------------------------------------
+    // 색인
+    // --------------------------------------------------------------------
+
+    /**
+     * 전체 재빌드 (북마크 수도 이때 새로 반영)
+     */
+    public void rebuild(Collection<PolicyDocument> documents, Map<Long, Long> bookmarkCounts) {
+        State fresh = new State(bookmarkCounts);
+        for (PolicyDocument doc : documents) {
+            fresh.upsert(doc);
+        }
+        fresh.compact();
+
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[PolicySuggestIndex] rebuilt. candidates={}, keys={}",
+                fresh.candidates.size(), fresh.snapshot.keys.length);
+    }
+
+    public void upsert(PolicyDocument doc) {
+        lock.writeLock().lock();
+        try {
+            state.upsert(doc);
+            state.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long policyId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(policyId);
+            state.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --------------------------------------------------------------------
+    // 조회
+    // --------------------------------------------------------------------
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 접두어로 시작하는 후보를 인기도 순으로 최대 limit 개
+     */
+    public List<PolicySuggestionDto> suggest(String prefix, int limit) {
+        String key = toKey(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return state.suggest(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String toKey(String text) {
+        return HangulJamo.decompose(KoreanNGramAnalyzer.normalize(text));
+    }
+
+    // --------------------------------------------------------------------
+    // 내부 구조
+    // --------------------------------------------------------------------
+
+    private enum Kind { POLICY, CATEGORY, DEPT }
+
+    /**
+     * @param id   후보 식별자 (P:정책id, C:카테고리명, D:부서명)
+     * @param keys 이 후보로 이어지는 접두어 키들
+     */
+    private record Candidate(String id, Kind kind, String text, Long policyId, long weight, List<String> keys) {
+
+        PolicySuggestionDto toDto() {
+            return new PolicySuggestionDto(text, kind.name(), policyId);
+        }
+
+        boolean matches(String prefix) {
+            for (String k : keys) {
+                if (k.startsWith(prefix)) return true;
+            }
+            return false;
+        }
+
+        static Candidate of(String id, Kind kind, String text, Long policyId, long weight) {
+            String[] words = text.trim().split("\\s+");
+            Set<String> keys = new LinkedHashSet<>();
+            for (int i = 0; i < words.length && i < MAX_WORD_STARTS; i++) {
+                String key = toKey(String.join("", Arrays.asList(words).subList(i, words.length)));
+                if (!key.isEmpty()) keys.add(key);
+            }
+            return new Candidate(id, kind, text.trim(), policyId, weight, List.copyOf(keys));
+        }
+    }
+
+    /**
+     * 정책 하나가 마지막으로 기여한 값 (갱신 시 이전 기여분을 빼기 위해 보관)
+     */
+    private record PolicyTerms(String name, String categoryName, String deptName, long weight) {}
+
+    private static final class Group {
+        final String text;
+        int policyCount;
+        long weightSum;
+
+        Group(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class State {
+        final Map<Long, Long> bookmarkCounts;
+        final Map<Long, PolicyTerms> policies = new HashMap<>();
+        final Map<String, Group> categories = new HashMap<>();
+        final Map<String, Group> depts = new HashMap<>();
+        final Map<String, Candidate> candidates = new HashMap<>();   // 현재 기준 전체 후보
+        final Set<String> dirty = new HashSet<>();                   // snapshot 이후 바뀐(삭제 포함) 후보 id
+        Snapshot snapshot = Snapshot.build(List.of());
+
+        State(Map<Long, Long> bookmarkCounts) {
+            this.bookmarkCounts = bookmarkCounts;
+        }
+
+        void upsert(PolicyDocument doc) {
+            remove(doc.id());
+
+            long weight = 1 + bookmarkCounts.getOrDefault(doc.id(), 0L);
+            PolicyTerms terms = new PolicyTerms(doc.name(), doc.mainCategoryName(), doc.deptName(), weight);
+            policies.put(doc.id(), terms);
+
+            if (hasText(terms.name())) {
+                put(Candidate.of(policyKey(doc.id()), Kind.POLICY, terms.name(), doc.id(), weight));
+            }
+            addToGroup(categories, Kind.CATEGORY, terms.categoryName(), weight);
+            addToGroup(depts, Kind.DEPT, terms.deptName(), weight);
+        }
+
+        void remove(Long policyId) {
+            PolicyTerms old = policies.remove(policyId);
+            if (old == null) return;
+
+            delete(policyKey(policyId));
+            removeFromGroup(categories, Kind.CATEGORY, old.categoryName(), old.weight());
+            removeFromGroup(depts, Kind.DEPT, old.deptName(), old.weight());
+        }
+
+        private void addToGroup(Map<String, Group> groups, Kind kind, String label, long weight) {
+            if (!hasText(label)) return;
+            String norm = KoreanNGramAnalyzer.normalize(label);
+            Group g = groups.computeIfAbsent(norm, k -> new Group(label.trim()));
+            g.policyCount++;
+            g.weightSum += weight;
+            put(Candidate.of(groupKey(kind, norm), kind, g.text, null, g.weightSum));
+        }
+
+        private void removeFromGroup(Map<String, Group> groups, Kind kind, String label, long weight) {
+            if (!hasText(label)) return;
+            String norm = KoreanNGramAnalyzer.normalize(label);
+            Group g = groups.get(norm);
+            if (g == null) return;
+            g.policyCount--;
+            g.weightSum -= weight;
+            if (g.policyCount <= 0) {
+                groups.remove(norm);
+                delete(groupKey(kind, norm));
+            } else {
+                put(Candidate.of(groupKey(kind, norm), kind, g.text, null, g.weightSum));
+            }
+        }
+
+        private void put(Candidate c) {
+            candidates.put(c.id(), c);
+            dirty.add(c.id());
+        }
+
+        private void delete(String candidateId) {
+            candidates.remove(candidateId);
+            dirty.add(candidateId);
+        }
+
+        void compactIfNeeded() {
+            if (dirty.size() >= COMPACT_THRESHOLD) {
+                compact();
+            }
+        }
+
+        void compact() {
+            snapshot = Snapshot.build(candidates.values());
+            dirty.clear();
+        }
+
+        /**
+         * snapshot 구간 상위 후보(dirty 로 바뀐 건 건너뜀)와 dirty 후보를 인기도 순으로 병합
+         */
+        List<PolicySuggestionDto> suggest(String prefix, int limit) {
+            List<Candidate> fresh = new ArrayList<>();
+            for (String id : dirty) {
+                Candidate c = candidates.get(id);
+                if (c != null && c.matches(prefix)) fresh.add(c);
+            }
+            fresh.sort(BY_WEIGHT);
+
+            Snapshot.RangeTop fromSnapshot = snapshot.rangeTop(prefix);
+            Candidate nextOld = nextClean(fromSnapshot);
+            int freshPos = 0;
+
+            Set<String> seen = new HashSet<>();
+            List<PolicySuggestionDto> result = new ArrayList<>(limit);
+            while (result.size() < limit) {
+                Candidate nextFresh = freshPos < fresh.size() ? fresh.get(freshPos) : null;
+                Candidate pick;
+                if (nextOld == null && nextFresh == null) {
+                    break;
+                } else if (nextFresh == null || (nextOld != null && BY_WEIGHT.compare(nextOld, nextFresh) <= 0)) {
+                    pick = nextOld;
+                    nextOld = nextClean(fromSnapshot);
+                } else {
+                    pick = nextFresh;
+                    freshPos++;
+                }
+                if (seen.add(pick.id())) {
+                    result.add(pick.toDto());
+                }
+            }
+            return result;
+        }
+
+        private Candidate nextClean(Snapshot.RangeTop it) {
+            Candidate c;
+            while ((c = it.next()) != null) {
+                if (!dirty.contains(c.id())) return c;
+            }
+            return null;
+        }
+
+        private static boolean hasText(String s) {
+            return s != null && !s.isBlank();
+        }
+
+        private static String policyKey(Long policyId) {
+            return "P:" + policyId;
+        }
+
+        private static String groupKey(Kind kind, String normalizedLabel) {
+            return (kind == Kind.CATEGORY ? "C:" : "D:") + normalizedLabel;
+        }
+    }
+
+    private static final Comparator<Candidate> BY_WEIGHT =
+            Comparator.comparingLong(Candidate::weight).reversed().thenComparing(Candidate::text);
+
+    /**
+     * 정렬된 키 배열 + 구간 최댓값(인기도) 세그먼트 트리. 만든 뒤에는 읽기 전용
+     */
+    private static final class Snapshot {
+        final String[] keys;
+        final Candidate[] rows;
+        final int leafBase;
+        final int[] tree;   // 노드 → 구간 안에서 가장 인기 있는 row (-1: 비어 있음)
+
+        private Snapshot(String[] keys, Candidate[] rows) {
+            this.keys = keys;
+            this.rows = rows;
+            int base = 1;
+            while (base < keys.length) base <<= 1;
+            this.leafBase = base;
+            this.tree = new int[base * 2];
+            Arrays.fill(tree, -1);
+            for (int i = 0; i < keys.length; i++) {
+                tree[base + i] = i;
+            }
+            for (int node = base - 1; node >= 1; node--) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        static Snapshot build(Collection<Candidate> candidates) {
+            List<Map.Entry<String, Candidate>> pairs = new ArrayList<>();
+            for (Candidate c : candidates) {
+                for (String k : c.keys()) {
+                    pairs.add(Map.entry(k, c));
+                }
+            }
+            pairs.sort(Map.Entry.comparingByKey());
+
+            String[] keys = new String[pairs.size()];
+            Candidate[] rows = new Candidate[pairs.size()];
+            for (int i = 0; i < pairs.size(); i++) {
+                keys[i] = pairs.get(i).getKey();
+                rows[i] = pairs.get(i).getValue();
+            }
+            return new Snapshot(keys, rows);
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) return b;
+            if (b < 0) return a;
+            return BY_WEIGHT.compare(rows[a], rows[b]) <= 0 ? a : b;
+        }
+
+        private int lowerBound(String key) {
+            int lo = 0, hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * prefix 로 시작하는 키 구간 [from, to) 에서 인기도 순으로 하나씩 꺼내는 반복자
+         */
+        RangeTop rangeTop(String prefix) {
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+            return new RangeTop(from, to);
+        }
+
+        final class RangeTop {
+            private final PriorityQueue<Integer> nodes =
+                    new PriorityQueue<>((x, y) -> BY_WEIGHT.compare(rows[tree[x]], rows[tree[y]]));
+
+            RangeTop(int from, int to) {
+                // 구간을 덮는 O(log n) 개 노드로 분해
+                int l = from + leafBase;
+                int r = to + leafBase;
+                while (l < r) {
+                    if ((l & 1) == 1) push(l++);
+                    if ((r & 1) == 1) push(--r);
+                    l >>= 1;
+                    r >>= 1;
+                }
+            }
+
+            private void push(int node) {
+                if (tree[node] >= 0) nodes.add(node);
+            }
+
+            Candidate next() {
+                while (!nodes.isEmpty()) {
+                    int node = nodes.poll();
+                    if (node >= leafBase) {
+                        return rows[tree[node]];
+                    }
+                    push(node * 2);
+                    push(node * 2 + 1);
+                }
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package AI_Secretary.service.Search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 홈 화면 추천용 후보 인덱스 (findRecommendedForUser 쿼리 대체)
+ *
+ * - 버킷 키: regionCtpv × 카테고리 code, 각 버킷은 endDate 오름차순(null 은 맨 뒤) → id 순으로 정렬된 목록
+ * - "조건 없음" 용으로 지역 전체(*), 카테고리 전체(*) 버킷도 같이 유지
+ *   (정책 하나가 (지역,카테고리) (지역,*) (*,카테고리) (*,*) 4개 버킷에 들어감)
+ * - 추천: 사용자 관심 카테고리 버킷들을 heap 으로 k-way merge 해서 앞에서 limit 개만 꺼냄
+ *   → O(limit · log k), 전체 후보 정렬 없음
+ */
+@Slf4j
+@Component
+public class RecommendationCandidateIndex {
+
+    private static final String ANY = "*";
+
+    // 마감일 빠른 순, 마감일 없으면 맨 뒤, 같으면 id 순
+    private static final Comparator<PolicyDocument> BY_END_DATE =
+            Comparator.comparingLong(RecommendationCandidateIndex::endDateKey)
+                    .thenComparing(PolicyDocument::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready = false;
+
+    public void rebuild(Collection<PolicyDocument> documents) {
+        State fresh = new State();
+        for (PolicyDocument doc : documents) {
+            fresh.upsert(doc);
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[RecommendationCandidateIndex] rebuilt. docs={}, buckets={}", fresh.byId.size(), fresh.buckets.size());
+    }
+
+    public void upsert(PolicyDocument doc) {
+        lock.writeLock().lock();
+        try {
+            state.upsert(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long policyId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(policyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param regionCtpv    null 이면 지역 조건 없음
+     * @param categoryCodes 비어 있으면 카테고리 조건 없음
+     * @return 마감일 빠른 순 최대 limit 건
+     */
+    public List<PolicyDocument> recommend(String regionCtpv, Collection<String> categoryCodes, int limit) {
+        String region = regionCtpv != null ? regionCtpv : ANY;
+
+        lock.readLock().lock();
+        try {
+            List<List<PolicyDocument>> lists = new ArrayList<>();
+            if (categoryCodes == null || categoryCodes.isEmpty()) {
+                addIfPresent(lists, region, ANY);
+            } else {
+                for (String code : categoryCodes) {
+                    addIfPresent(lists, region, code);
+                }
+            }
+            return merge(lists, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addIfPresent(List<List<PolicyDocument>> lists, String region, String category) {
+        List<PolicyDocument> bucket = state.buckets.get(bucketKey(region, category));
+        if (bucket != null && !bucket.isEmpty()) lists.add(bucket);
+    }
+
+    /**
+     * 정렬된 목록들의 k-way merge (카테고리가 하나뿐인 정책이라 목록 간 중복 없음)
+     */
+    private static List<PolicyDocument> merge(List<List<PolicyDocument>> lists, int limit) {
+        if (lists.size() == 1) {
+            List<PolicyDocument> only = lists.get(0);
+            return new ArrayList<>(only.subList(0, Math.min(limit, only.size())));
+        }
+
+        // heap 원소: {목록 번호, 목록 안 위치}
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Math.max(1, lists.size()),
+                (a, b) -> BY_END_DATE.compare(lists.get(a[0]).get(a[1]), lists.get(b[0]).get(b[1])));
+        for (int i = 0; i < lists.size(); i++) {
+            heap.add(new int[]{i, 0});
+        }
+
+        List<PolicyDocument> result = new ArrayList<>(limit);
+        while (result.size() < limit && !heap.isEmpty()) {
+            int[] top = heap.poll();
+            List<PolicyDocument> list = lists.get(top[0]);
+            result.add(list.get(top[1]));
+            if (++top[1] < list.size()) heap.add(top);
+        }
+        return result;
+    }
+
+    private static long endDateKey(PolicyDocument doc) {
+        return doc.endDate() == null ? Long.MAX_VALUE : doc.endDate().toEpochDay();
+    }
+
+    private static String bucketKey(String region, String category) {
+        return region + "|" + category;
+    }
+
+    private static final class State {
+        final Map<Long, PolicyDocument> byId = new HashMap<>();
+        final Map<String, List<PolicyDocument>> buckets = new HashMap<>();
+
+        void upsert(PolicyDocument doc) {
+            remove(doc.id());
+            byId.put(doc.id(), doc);
+            for (String key : bucketKeysOf(doc)) {
+                List<PolicyDocument> bucket = buckets.computeIfAbsent(key, k -> new ArrayList<>());
+                int pos = Collections.binarySearch(bucket, doc, BY_END_DATE);
+                bucket.add(pos >= 0 ? pos : -pos - 1, doc);
+            }
+        }
+
+        void remove(Long policyId) {
+            PolicyDocument old = byId.remove(policyId);
+            if (old == null) return;
+            for (String key : bucketKeysOf(old)) {
+                List<PolicyDocument> bucket = buckets.get(key);
+                if (bucket == null) continue;
+                int pos = Collections.binarySearch(bucket, old, BY_END_DATE);
+                if (pos >= 0) bucket.remove(pos);
+                if (bucket.isEmpty()) buckets.remove(key);
+            }
+        }
+
+        private static List<String> bucketKeysOf(PolicyDocument doc) {
+            String region = doc.regionCtpv();
+            String category = doc.mainCategoryCode();
+            List<String> keys = new ArrayList<>(4);
+            keys.add(bucketKey(ANY, ANY));
+            if (region != null) keys.add(bucketKey(region, ANY));
+            if (category != null) keys.add(bucketKey(ANY, category));
+            if (region != null && category != null) keys.add(bucketKey(region, category));
+            return keys;
+        }
+    }
+}
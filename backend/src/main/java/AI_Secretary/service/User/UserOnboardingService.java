@@ -13,6 +13,7 @@ import AI_Secretary.repository.User.UserInterestsRepository;
 import AI_Secretary.repository.User.UserProfileRepository;
 import AI_Secretary.repository.User.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +26,7 @@ public class UserOnboardingService {
     private final UserProfileRepository userProfileRepository;
     private final UserInterestsRepository userInterestRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void updateInterests(Long userId, UpdateInterestsRequest request) {
         users user = userRepository.findById(userId)
@@ -64,5 +66,8 @@ public class UserOnboardingService {
 
         profile.markOnboardingCompleted();
         // 별도 save 호출 불필요: @Transactional + JPA 더티체킹으로 플러시됨
+
+        // 관심사가 바뀌었으니 추천 캐시 무효화 (커밋 후 처리)
+        eventPublisher.publishEvent(new UserPreferenceChangedEvent(userId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package AI_Secretary.service.User;
+
+/**
+ * 추천 입력값(프로필: 지역/나이/복지정보, 관심 카테고리)이 바뀌었을 때 발행
+ * - 추천 캐시 등은 커밋 이후에 받아서 해당 사용자만 무효화
+ */
+public record UserPreferenceChangedEvent(Long userId) {}
@@ -12,6 +12,7 @@ import AI_Secretary.repository.User.UserProfileRepository;
 import AI_Secretary.repository.User.UserRepository;
 import AI_Secretary.repository.search.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +27,7 @@ public class UserProfileService {
     private final UserProfileRepository userProfileRepository;
     private final UserInterestsRepository userInterestsRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 온보딩/마이페이지에서 내 프로필 + 관심사 + 복지정보 업데이트
@@ -99,6 +101,9 @@ public class UserProfileService {
         // 7) 온보딩 완료 플래그
         profile.markOnboardingCompleted();
 
+        // 지역/복지정보/관심사가 바뀌었으니 추천 캐시 무효화 (커밋 후 처리)
+        eventPublisher.publishEvent(new UserPreferenceChangedEvent(userId));
+
         // 8) 실제 DB에 들어간 관심 코드들 다시 읽어서 응답 구성
         List<UserInterests> interests = userInterestsRepository.findByUser_Id(userId);
         List<String> finalCodes = interests.stream()
@@ -0,0 +1,300 @@
+package AI_Secretary.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Roaring 방식의 압축 비트셋 (0 이상 int 집합)
+ * - 상위 16bit 로 묶음(container)을 나누고, 묶음 안은 원소 수에 따라
+ *   4096개 이하: 정렬된 char 배열 / 그보다 많으면: 65536bit 비트맵(long[1024])
+ * - 드문 값(시군구 등)은 배열로 작게, 흔한 값(전국, 상시 등)은 비트맵으로 빠르게
+ * - 교집합/교집합 크기 계산을 박싱 없이 처리
+ * - 스레드 안전하지 않음 (호출부에서 락으로 보호)
+ */
+public final class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    public void add(int value) {
+        char high = (char) (value >>> 16);
+        int i = indexOf(high);
+        if (i < 0) {
+            i = -i - 1;
+            insertAt(i, high, new Container());
+        }
+        containers[i].add((char) value);
+    }
+
+    public void remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) return;
+        containers[i].remove((char) value);
+        if (containers[i].cardinality == 0) {
+            removeAt(i);
+        }
+    }
+
+    public boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality;
+        }
+        return total;
+    }
+
+    /**
+     * 교집합 (새 비트셋 반환, 양쪽 모두 그대로)
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container c = containers[i].and(other.containers[j]);
+                if (c.cardinality > 0) {
+                    result.insertAt(result.size, keys[i], c);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 교집합 크기만 (중간 결과를 만들지 않음, 패싯 카운트용)
+     */
+    public int andCardinality(CompressedBitmap other) {
+        int total = 0;
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                total += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 오름차순 순회
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertAt(int i, char high, Container c) {
+        if (size == keys.length) {
+            int cap = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, cap);
+            containers = Arrays.copyOf(containers, cap);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = high;
+        containers[i] = c;
+        size++;
+    }
+
+    private void removeAt(int i) {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * 하위 16bit 묶음: values(정렬 배열) 또는 bits(비트맵) 중 하나만 사용
+     */
+    private static final class Container {
+        char[] values = new char[4];
+        long[] bits;
+        int cardinality;
+
+        boolean isBitmap() {
+            return bits != null;
+        }
+
+        boolean contains(char low) {
+            if (isBitmap()) {
+                return (bits[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        void add(char low) {
+            if (isBitmap()) {
+                long before = bits[low >>> 6];
+                bits[low >>> 6] = before | (1L << low);
+                if (before != bits[low >>> 6]) cardinality++;
+                return;
+            }
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos >= 0) return;
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                add(low);
+                return;
+            }
+            int at = -pos - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, at, values, at + 1, cardinality - at);
+            values[at] = low;
+            cardinality++;
+        }
+
+        void remove(char low) {
+            if (isBitmap()) {
+                long before = bits[low >>> 6];
+                bits[low >>> 6] = before & ~(1L << low);
+                if (before != bits[low >>> 6]) cardinality--;
+                if (cardinality <= ARRAY_MAX) toArray();
+                return;
+            }
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos < 0) return;
+            System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+            cardinality--;
+        }
+
+        Container and(Container o) {
+            Container result = new Container();
+            if (isBitmap() && o.isBitmap()) {
+                long[] words = new long[1024];
+                int card = 0;
+                for (int w = 0; w < 1024; w++) {
+                    words[w] = bits[w] & o.bits[w];
+                    card += Long.bitCount(words[w]);
+                }
+                result.bits = words;
+                result.cardinality = card;
+                if (card <= ARRAY_MAX) result.toArray();
+                return result;
+            }
+            if (isBitmap() || o.isBitmap()) {
+                Container arr = isBitmap() ? o : this;
+                Container bm = isBitmap() ? this : o;
+                char[] out = new char[arr.cardinality];
+                int n = 0;
+                for (int k = 0; k < arr.cardinality; k++) {
+                    if (bm.contains(arr.values[k])) out[n++] = arr.values[k];
+                }
+                result.values = out;
+                result.cardinality = n;
+                return result;
+            }
+            char[] out = new char[Math.min(cardinality, o.cardinality)];
+            int n = 0, a = 0, b = 0;
+            while (a < cardinality && b < o.cardinality) {
+                if (values[a] < o.values[b]) a++;
+                else if (values[a] > o.values[b]) b++;
+                else {
+                    out[n++] = values[a];
+                    a++;
+                    b++;
+                }
+            }
+            result.values = out;
+            result.cardinality = n;
+            return result;
+        }
+
+        int andCardinality(Container o) {
+            if (isBitmap() && o.isBitmap()) {
+                int card = 0;
+                for (int w = 0; w < 1024; w++) {
+                    card += Long.bitCount(bits[w] & o.bits[w]);
+                }
+                return card;
+            }
+            if (isBitmap() || o.isBitmap()) {
+                Container arr = isBitmap() ? o : this;
+                Container bm = isBitmap() ? this : o;
+                int card = 0;
+                for (int k = 0; k < arr.cardinality; k++) {
+                    if (bm.contains(arr.values[k])) card++;
+                }
+                return card;
+            }
+            int card = 0, a = 0, b = 0;
+            while (a < cardinality && b < o.cardinality) {
+                if (values[a] < o.values[b]) a++;
+                else if (values[a] > o.values[b]) b++;
+                else {
+                    card++;
+                    a++;
+                    b++;
+                }
+            }
+            return card;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (isBitmap()) {
+                for (int w = 0; w < 1024; w++) {
+                    long word = bits[w];
+                    while (word != 0) {
+                        action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                return;
+            }
+            for (int k = 0; k < cardinality; k++) {
+                action.accept(base | values[k]);
+            }
+        }
+
+        private void toBitmap() {
+            long[] words = new long[1024];
+            for (int k = 0; k < cardinality; k++) {
+                words[values[k] >>> 6] |= 1L << values[k];
+            }
+            bits = words;
+            values = null;
+        }
+
+        private void toArray() {
+            char[] out = new char[Math.max(4, cardinality)];
+            int n = 0;
+            for (int w = 0; w < 1024; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    out[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = out;
+            bits = null;
+        }
+    }
+}
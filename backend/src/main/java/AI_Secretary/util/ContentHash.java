@@ -0,0 +1,27 @@
+package AI_Secretary.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * AI 요청 입력 등의 내용 해시 (캐시 / 중복 호출 합치기 키)
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    /**
+     * SHA-256 (hex 64자)
+     */
+    public static String sha256Hex(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
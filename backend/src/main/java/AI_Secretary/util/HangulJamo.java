@@ -0,0 +1,88 @@
+package AI_Secretary.util;
+
+/**
+ * 한글 음절 → 자모 분해 유틸
+ * - "연금" → "ㅇㅕㄴㄱㅡㅁ"
+ * - 겹모음/겹받침도 낱자로 풀어서 (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ) 오타 한 번이 자모 한두 개 차이로만 보이게 함
+ * - 한글이 아닌 문자는 그대로 통과
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            appendJamo(sb, text.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int idx = c - SYLLABLE_BASE;
+            int cho = idx / (JUNG_COUNT * JONG_COUNT);
+            int jung = (idx % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT;
+            int jong = idx % JONG_COUNT;
+            sb.append(CHO[cho]).append(JUNG[jung]).append(JONG[jong]);
+            return;
+        }
+        // 입력 중인 낱자(호환 자모)도 겹자모는 풀어줌
+        String split = splitCompatibilityJamo(c);
+        if (split != null) {
+            sb.append(split);
+        } else {
+            sb.append(c);
+        }
+    }
+
+    private static String splitCompatibilityJamo(char c) {
+        return switch (c) {
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package AI_Secretary.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나로 합치기 (single-flight)
+ * - 처음 들어온 호출만 loader 를 실행하고, 그 사이 같은 키로 들어온 호출은 그 결과(예외 포함)를 같이 받음
+ * - 결과를 보관하지는 않음 (끝나면 바로 키 제거) → 캐시는 호출부 몫
+ * - execute: 동기 loader / executeAsync: 비동기 loader (WebClient Mono → toFuture 등)
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            shared.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 비동기 버전. loader 가 돌려준 작업이 끝날 때까지 같은 키 호출은 그 결과를 같이 받음
+     * (반환값은 호출마다 복사본이라, 한 호출부가 cancel 해도 다른 호출부에는 영향 없음)
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            shared.increment();
+            return running.copy();
+        }
+
+        executed.increment();
+        CompletionStage<V> stage;
+        try {
+            stage = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            return mine.copy();
+        }
+        stage.whenComplete((value, error) -> {
+            inFlight.remove(key, mine);
+            if (error != null) {
+                mine.completeExceptionally(error);
+            } else {
+                mine.complete(value);
+            }
+        });
+        return mine.copy();
+    }
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과(복사본)를 같이 받고, 없으면 null (새로 실행하지 않음)
+     */
+    public CompletableFuture<V> joinIfRunning(K key) {
+        CompletableFuture<V> running = inFlight.get(key);
+        if (running == null) {
+            return null;
+        }
+        shared.increment();
+        return running.copy();
+    }
+
+    /**
+     * 실제로 loader 를 실행한 횟수
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * 다른 호출 결과를 같이 받아서 아낀 횟수
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
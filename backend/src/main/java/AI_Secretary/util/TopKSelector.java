@@ -0,0 +1,92 @@
+package AI_Secretary.util;
+
+/**
+ * 점수 상위 k개만 유지하는 primitive min-heap
+ * - 전체 정렬 O(n log n) 대신 O(n log k)
+ * - (double score, int id) 쌍을 박싱 없이 보관
+ * - 점수가 같으면 id 가 큰 쪽을 우선 (호출부에서 id 를 최신순 ordinal 로 쓰는 전제)
+ */
+public final class TopKSelector {
+
+    private final int k;
+    private final double[] scores;
+    private final int[] ids;
+    private int size;
+
+    public TopKSelector(int k) {
+        this.k = Math.max(0, k);
+        this.scores = new double[this.k];
+        this.ids = new int[this.k];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void offer(double score, int id) {
+        if (k == 0) return;
+        if (size < k) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+            return;
+        }
+        if (better(score, id, scores[0], ids[0])) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 점수 내림차순으로 id 배열 반환 (호출 후 selector 는 비워짐)
+     */
+    public int[] drainDescending() {
+        int[] out = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            out[i] = ids[0];
+            size--;
+            scores[0] = scores[size];
+            ids[0] = ids[size];
+            siftDown(0);
+        }
+        return out;
+    }
+
+    private static boolean better(double s1, int id1, double s2, int id2) {
+        return s1 > s2 || (s1 == s2 && id1 > id2);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(scores[parent], ids[parent], scores[i], ids[i])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int right = left + 1;
+            int worst = left;
+            if (right < size && better(scores[left], ids[left], scores[right], ids[right])) {
+                worst = right;
+            }
+            if (!better(scores[i], ids[i], scores[worst], ids[worst])) break;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+        int t = ids[a];
+        ids[a] = ids[b];
+        ids[b] = t;
+    }
+}